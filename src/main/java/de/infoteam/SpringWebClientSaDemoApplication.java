@@ -5,17 +5,20 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.jmx.JmxAutoConfiguration;
 import org.springframework.boot.autoconfigure.web.servlet.MultipartAutoConfiguration;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
- * The main class of the service. Does not much but running the service indefinitely (until stopped explicitly).
+ * The main class of the service. Does not much but running the service indefinitely (until stopped explicitly) and
+ * enabling the scheduled background jobs.
  * 
  * @author Dirk Weissmann
  * @since 2022-03-03
- * @version 1.0
+ * @version 1.1
  *
  */
 @SpringBootApplication(exclude = { MultipartAutoConfiguration.class, JmxAutoConfiguration.class })
 @EnableFeignClients
+@EnableScheduling
 public class SpringWebClientSaDemoApplication {
 
 	/**
@@ -1,15 +1,27 @@
 package de.infoteam.api;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import de.infoteam.client.ForecastClientRouter;
+import de.infoteam.forecast.ForecastAggregates;
+import de.infoteam.forecast.ForecastBroadcaster;
+import de.infoteam.forecast.ForecastStore;
+import de.infoteam.model.ForecastBatch;
+import de.infoteam.model.ForecastPage;
+import de.infoteam.model.ForecastStatistics;
 import de.infoteam.model.WeatherForecast;
 
 /**
@@ -23,10 +35,13 @@ import de.infoteam.model.WeatherForecast;
  * <dt>Rest Template</dt>
  * <dd>An easy-to-use solution, the <i>classic</i> client in Java, independent from the Spring framework</dd>
  * </dl>
+ * The forecasts pass through as compact {@link ForecastBatch}. A unified end point chooses the client variant per call,
+ * see {@link ForecastClientRouter}. Additionally, the forecasts kept in the {@link ForecastStore} can be queried and
+ * their changes can be subscribed to without calling the .NET service.
  * 
  * @author Dirk Weissmann
  * @since 2022-03-02
- * @version 1.0
+ * @version 1.6
  * @see <a href="https://stackoverflow.com/questions/67191617/springboot-feignclient-vs-webclient">Web Client vs. Feign
  *      Client</a>
  *
@@ -34,6 +49,20 @@ import de.infoteam.model.WeatherForecast;
 @RequestMapping("/demoservice/client/v1/forecasts")
 interface DemoRestApi {
 
+	/**
+	 * The end point that calls the .NET service with the client variant chosen by the request header
+	 * {@value ForecastClientRouter#CLIENT_HEADER} ({@code adaptive}, {@code web-client}, {@code feign-client} or
+	 * {@code rest-template}) or by the configuration if the header is missing.
+	 * 
+	 * @param client the requested client variant, optional
+	 * 
+	 * @return the {@link ResponseEntity} with a {@code JSON} array of {@link WeatherForecast} items as body and code
+	 *         {@code 200} in case of success, never {@code null}
+	 */
+	@GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+	ResponseEntity<ForecastBatch> getWeatherForecast(
+			@RequestHeader(name = ForecastClientRouter.CLIENT_HEADER, required = false) String client);
+
 	/**
 	 * The end point that works with a {@link WebClient} for calling the .NET service.
 	 * 
@@ -41,16 +70,16 @@ interface DemoRestApi {
 	 *         {@code 200} in case of success, never {@code null}
 	 */
 	@GetMapping(path = "/use-web-client", produces = MediaType.APPLICATION_JSON_VALUE)
-	ResponseEntity<WeatherForecast[]> getWeatherForecastViaWebClient();
+	ResponseEntity<ForecastBatch> getWeatherForecastViaWebClient();
 
 	/**
 	 * The end point that works with a {@link FeignClient} for calling the .NET service.
 	 * 
-	 * @return the {@link ResponseEntity} with a {@link List} of {@link WeatherForecast} items as body and code
+	 * @return the {@link ResponseEntity} with a {@code JSON} array of {@link WeatherForecast} items as body and code
 	 *         {@code 200} in case of success, never {@code null}
 	 */
 	@GetMapping(path = "/use-feign-client", produces = MediaType.APPLICATION_JSON_VALUE)
-	ResponseEntity<List<WeatherForecast>> getWeatherForecastViaFeignClient();
+	ResponseEntity<ForecastBatch> getWeatherForecastViaFeignClient();
 
 	/**
 	 * The end point that works with a {@link RestTemplate} for calling the .NET service.
@@ -59,5 +88,45 @@ interface DemoRestApi {
 	 *         {@code 200} in case of success, never {@code null}
 	 */
 	@GetMapping(path = "/use-rest-template", produces = MediaType.APPLICATION_JSON_VALUE)
-	ResponseEntity<WeatherForecast[]> getWeatherForecastViaRestTemplate();
+	ResponseEntity<ForecastBatch> getWeatherForecastViaRestTemplate();
+
+	/**
+	 * The end point that queries the forecasts stored in memory by date range, without calling the .NET service. The
+	 * result is paginated: a page's {@link ForecastPage#nextCursor()} is passed as {@code cursor} to get the next one.
+	 * 
+	 * @param from   the earliest date (inclusive) in {@code ISO} format, optional
+	 * @param to     the latest date (inclusive) in {@code ISO} format, optional
+	 * @param cursor the cursor from the previous page, optional
+	 * @param limit  the maximum number of items on the page ({@code 1..100}, values outside are capped), optional
+	 * 
+	 * @return the {@link ResponseEntity} with the {@link ForecastPage} as body and code {@code 200}, never {@code null}
+	 */
+	@GetMapping(path = "/range", produces = MediaType.APPLICATION_JSON_VALUE)
+	ResponseEntity<ForecastPage> getWeatherForecastRange(
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to,
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime cursor,
+			@RequestParam(defaultValue = "20") int limit);
+
+	/**
+	 * The end point that streams the changed forecasts as Server-Sent Events, without calling the .NET service. Each
+	 * {@code forecasts} event carries a {@code JSON} array of the {@link WeatherForecast} items that are new or changed
+	 * since the previous poll of the .NET service, see {@link ForecastBroadcaster}.
+	 * 
+	 * @return the {@link ResponseEntity} with the infinite event stream as body and code {@code 200}, never
+	 *         {@code null}
+	 */
+	@GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	ResponseEntity<SseEmitter> streamWeatherForecastChanges();
+
+	/**
+	 * The end point that provides the temperature statistics (count, minimum, maximum and mean) of the forecasts stored
+	 * in memory per day and per summary, without calling the .NET service. The statistics are maintained by the
+	 * {@link ForecastAggregates} as the forecasts arrive.
+	 * 
+	 * @return the {@link ResponseEntity} with the {@link ForecastStatistics} as body and code {@code 200}, never
+	 *         {@code null}
+	 */
+	@GetMapping(path = "/statistics", produces = MediaType.APPLICATION_JSON_VALUE)
+	ResponseEntity<ForecastStatistics> getWeatherForecastStatistics();
 }
@@ -1,56 +1,68 @@
 package de.infoteam.api;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import de.infoteam.errorhandling.ErrorService;
+import de.infoteam.client.ClientType;
+import de.infoteam.client.ForecastClient;
+import de.infoteam.client.ForecastClientRouter;
 import de.infoteam.feign.FeignClientDochNet;
-import de.infoteam.model.WeatherForecast;
+import de.infoteam.forecast.ForecastAggregates;
+import de.infoteam.forecast.ForecastBroadcaster;
+import de.infoteam.forecast.ForecastStore;
+import de.infoteam.model.ForecastBatch;
+import de.infoteam.model.ForecastPage;
+import de.infoteam.model.ForecastStatistics;
 import lombok.RequiredArgsConstructor;
-import reactor.core.publisher.Mono;
 
 /**
  * The controller implementing from the interface {@link DemoRestApi}. While all end points including validation is done
  * in the interface, the implementation is to be found here.
  * <p>
+ * The calls to the .NET service go through the {@link ForecastClientRouter}, so that the fixed client end points feed
+ * the statistics of the adaptive selection as well.
+ * <p>
  * <i>Security is not yet supported</i>
  * 
  * @author Dirk Weissmann
  * @since 2022-03-03
- * @version 1.1
+ * @version 1.9
  *
  */
 @RequiredArgsConstructor
 @RestController
 class DemoRestApiController implements DemoRestApi {
 
-	/* The 3 client objects for calling the .NET endpoint */
-	private final WebClient webClient;
-	private final FeignClientDochNet feignClient;
-	private final RestTemplate restTemplate;
-
-	private final ErrorService errorService;
+	private final ForecastClientRouter clientRouter;
+	private final ForecastStore forecastStore;
+	private final ForecastBroadcaster forecastBroadcaster;
+	private final ForecastAggregates forecastAggregates;
 
 	/**
 	 * {@inheritDoc}
 	 * <p>
-	 * The basic configuration is to be found in the {@link Configuration} bean {@code ApiConfig}.
+	 * The chosen client variant is named in the response header {@value ForecastClientRouter#CLIENT_HEADER}.
 	 */
 	@Override
-	public ResponseEntity<WeatherForecast[]> getWeatherForecastViaWebClient() {
-		final Mono<WeatherForecast[]> serviceCallResult = webClient.get().uri("/WeatherForecast").retrieve()
-				.bodyToMono(WeatherForecast[].class);
-
-		final WeatherForecast[] responseBody = serviceCallResult.block();
+	public ResponseEntity<ForecastBatch> getWeatherForecast(final String client) {
+		final ForecastClient forecastClient = clientRouter.select(client);
 
-		errorService.validateDotNetResponse(responseBody);
+		return ResponseEntity.ok().header(ForecastClientRouter.CLIENT_HEADER, forecastClient.type().getExternalName())
+				.body(forecastClient.getForecasts());
+	}
 
-		return ResponseEntity.ok(responseBody);
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The basic configuration is to be found in the {@link Configuration} bean {@code ApiConfig}.
+	 */
+	@Override
+	public ResponseEntity<ForecastBatch> getWeatherForecastViaWebClient() {
+		return ResponseEntity.ok(clientRouter.select(ClientType.WEB_CLIENT).getForecasts());
 	}
 
 	/**
@@ -59,8 +71,8 @@ class DemoRestApiController implements DemoRestApi {
 	 * @see FeignClientDochNet
 	 */
 	@Override
-	public ResponseEntity<List<WeatherForecast>> getWeatherForecastViaFeignClient() {
-		return ResponseEntity.ok(feignClient.getForecasts());
+	public ResponseEntity<ForecastBatch> getWeatherForecastViaFeignClient() {
+		return ResponseEntity.ok(clientRouter.select(ClientType.FEIGN_CLIENT).getForecasts());
 	}
 
 	/**
@@ -69,12 +81,38 @@ class DemoRestApiController implements DemoRestApi {
 	 * The basic configuration is to be found in the {@link Configuration} bean {@code ApiConfig}.
 	 */
 	@Override
-	public ResponseEntity<WeatherForecast[]> getWeatherForecastViaRestTemplate() {
-		final ResponseEntity<WeatherForecast[]> dotNetResponse = restTemplate.getForEntity("/WeatherForecast",
-				WeatherForecast[].class);
+	public ResponseEntity<ForecastBatch> getWeatherForecastViaRestTemplate() {
+		return ResponseEntity.ok(clientRouter.select(ClientType.REST_TEMPLATE).getForecasts());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The query is answered by the {@link ForecastStore} alone.
+	 */
+	@Override
+	public ResponseEntity<ForecastPage> getWeatherForecastRange(final LocalDateTime from, final LocalDateTime to,
+			final LocalDateTime cursor, final int limit) {
+		return ResponseEntity.ok(forecastStore.query(from, to, cursor, limit));
+	}
 
-		errorService.validateDotNetResponse(dotNetResponse.getBody());
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The events are written by the writer threads of the {@link ForecastBroadcaster}, not on the request's thread.
+	 */
+	@Override
+	public ResponseEntity<SseEmitter> streamWeatherForecastChanges() {
+		return ResponseEntity.ok(forecastBroadcaster.subscribe());
+	}
 
-		return dotNetResponse;
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The latest snapshot is returned as it is.
+	 */
+	@Override
+	public ResponseEntity<ForecastStatistics> getWeatherForecastStatistics() {
+		return ResponseEntity.ok(forecastAggregates.snapshot());
 	}
 }
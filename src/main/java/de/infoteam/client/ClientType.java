@@ -0,0 +1,43 @@
+package de.infoteam.client;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The client variants for calling the {@code .NET} service, each implemented as {@link ForecastClient}.
+ * 
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.0
+ *
+ */
+@RequiredArgsConstructor
+public enum ClientType {
+
+	/** The reactive {@code WebClient} */
+	WEB_CLIENT("web-client"),
+
+	/** The declarative {@code FeignClient} */
+	FEIGN_CLIENT("feign-client"),
+
+	/** The classic {@code RestTemplate} */
+	REST_TEMPLATE("rest-template");
+
+	/* The name used in the configuration and the request header */
+	@Getter
+	private final String externalName;
+
+	/**
+	 * Looks up a client variant by its external name.
+	 * 
+	 * @param externalName the name as used in the configuration or the request header, may be {@code null}
+	 * 
+	 * @return the client variant or an empty {@link Optional} if the name is unknown, never {@code null}
+	 */
+	public static Optional<ClientType> of(final String externalName) {
+		return Arrays.stream(values()).filter(type -> type.externalName.equalsIgnoreCase(externalName)).findFirst();
+	}
+}
@@ -0,0 +1,45 @@
+package de.infoteam.client;
+
+import org.springframework.stereotype.Component;
+
+import de.infoteam.errorhandling.ErrorService;
+import de.infoteam.feign.FeignClientDochNet;
+import de.infoteam.model.ForecastBatch;
+import de.infoteam.timing.RequestTimings;
+import de.infoteam.timing.RequestTimings.Phase;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The {@link ForecastClient} working with the {@link FeignClientDochNet}. The compact {@link ForecastBatch} is not
+ * validated by Feign, so the validation is done and timed separately like for the other clients.
+ * 
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.1
+ *
+ */
+@Component
+@RequiredArgsConstructor
+class FeignForecastClient implements ForecastClient {
+
+	private final FeignClientDochNet feignClient;
+	private final ErrorService errorService;
+
+	@Override
+	public ClientType type() {
+		return ClientType.FEIGN_CLIENT;
+	}
+
+	@Override
+	public ForecastBatch getForecasts() {
+		RequestTimings.markCurrent();
+
+		final ForecastBatch forecasts = feignClient.getForecastBatch();
+
+		RequestTimings.lapCurrent(Phase.DECODE);
+		errorService.validateDotNetResponse(forecasts);
+		RequestTimings.lapCurrent(Phase.VALIDATE);
+
+		return forecasts;
+	}
+}
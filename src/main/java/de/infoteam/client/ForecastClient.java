@@ -0,0 +1,30 @@
+package de.infoteam.client;
+
+import de.infoteam.model.ForecastBatch;
+import de.infoteam.model.WeatherForecast;
+
+/**
+ * The common abstraction of the client variants fetching the forecasts from the {@code .NET} service. Implementations
+ * validate the response and record the {@code DECODE} and {@code VALIDATE} phases of the request's timings.
+ * 
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.1
+ *
+ */
+public interface ForecastClient {
+
+	/**
+	 * Tells the implemented client variant.
+	 * 
+	 * @return the {@link ClientType}, never {@code null}
+	 */
+	ClientType type();
+
+	/**
+	 * Fetches the forecasts from the .NET service.
+	 * 
+	 * @return the validated {@link WeatherForecast} items as compact {@link ForecastBatch}, never {@code null}
+	 */
+	ForecastBatch getForecasts();
+}
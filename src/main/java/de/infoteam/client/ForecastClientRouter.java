@@ -0,0 +1,224 @@
+package de.infoteam.client;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import de.infoteam.model.ForecastBatch;
+import de.infoteam.resilience.ConcurrencyLimitExceededException;
+import feign.FeignException;
+import feign.RetryableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Chooses the {@link ForecastClient} for a call, either a fixed {@link ClientType} or adaptively. All calls through the
+ * router feed live statistics per client variant:
+ * <ul>
+ * <li>An exponentially weighted average of the latency of the calls answered by the .NET service</li>
+ * <li>An exponentially weighted error rate of the failures that depend on the variant: transport failures and
+ * timeouts, and server errors ({@code 5xx})</li>
+ * </ul>
+ * A call that is answered but fails otherwise - with a client error ({@code 4xx}) or a response that cannot be decoded
+ * or does not pass the validation - fails the same way with every variant. It counts as latency sample of an answered
+ * call. Rejections by the concurrency limit are shared by all variants and thus not counted at all.
+ * <p>
+ * The adaptive selection sends a call to the variant with the lowest expected time per successful call (latency divided
+ * by success rate). A small, configurable share of the calls explores a random variant instead, so that the statistics
+ * of the other variants stay current. Variants without any sample are preferred, so each one is tried early.
+ * 
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.2
+ *
+ */
+@Component
+@Log4j2
+public class ForecastClientRouter {
+
+	/** The request header choosing the client variant */
+	public static final String CLIENT_HEADER = "X-Forecast-Client";
+
+	/** The name of the adaptive selection */
+	public static final String ADAPTIVE = "adaptive";
+
+	/* The success rate assumed at least, so that a failing variant gets a finite score */
+	private static final double MIN_SUCCESS_RATE = 0.01;
+
+	private final Map<ClientType, MeasuredClient> clients = new EnumMap<>(ClientType.class);
+	private final String defaultSelection;
+	private final double exploration;
+	private final double smoothing;
+
+	/**
+	 * Creates the router for all client variants and registers the statistics' gauges.
+	 * 
+	 * @param delegates        the {@link ForecastClient} implementations, one per {@link ClientType}
+	 * @param defaultSelection the selection for calls without request header: {@value #ADAPTIVE} or the external name
+	 *                         of a {@link ClientType}
+	 * @param exploration      the share (between {@code 0} and {@code 1}) of adaptive calls exploring a random variant
+	 * @param smoothing        the weight (between {@code 0} and {@code 1}) of a new sample in the statistics
+	 * @param registry         the {@link MeterRegistry} for publishing the metrics, must not be {@code null}
+	 * 
+	 * @throws UnknownClientTypeException if the default selection is not valid
+	 */
+	public ForecastClientRouter(final List<ForecastClient> delegates,
+			@Value("${doch.net.client.selection:adaptive}") final String defaultSelection,
+			@Value("${doch.net.client.routing.exploration:0.05}") final double exploration,
+			@Value("${doch.net.client.routing.smoothing:0.1}") final double smoothing, final MeterRegistry registry) {
+		this.defaultSelection = defaultSelection;
+		this.exploration = exploration;
+		this.smoothing = smoothing;
+
+		delegates.forEach(delegate -> clients.put(delegate.type(), new MeasuredClient(delegate, registry)));
+
+		select(defaultSelection);
+	}
+
+	/**
+	 * Chooses the client variant for a call.
+	 * 
+	 * @param selection {@value #ADAPTIVE}, the external name of a {@link ClientType} or {@code null} for the configured
+	 *                  default
+	 * 
+	 * @return the {@link ForecastClient} recording the call's statistics, never {@code null}
+	 * 
+	 * @throws UnknownClientTypeException if the selection is not valid
+	 */
+	public ForecastClient select(final String selection) {
+		final String effective = selection == null || selection.isBlank() ? defaultSelection : selection.strip();
+
+		if (ADAPTIVE.equalsIgnoreCase(effective)) {
+			return selectAdaptive();
+		}
+
+		return select(ClientType.of(effective).orElseThrow(() -> new UnknownClientTypeException(effective)));
+	}
+
+	/**
+	 * Provides a fixed client variant.
+	 * 
+	 * @param type the {@link ClientType}, must not be {@code null}
+	 * 
+	 * @return the {@link ForecastClient} recording the call's statistics, never {@code null}
+	 */
+	public ForecastClient select(final ClientType type) {
+		return clients.get(type);
+	}
+
+	private ForecastClient selectAdaptive() {
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		final List<MeasuredClient> candidates = List.copyOf(clients.values());
+
+		if (random.nextDouble() < exploration) {
+			return candidates.get(random.nextInt(candidates.size()));
+		}
+
+		return candidates.stream().min(Comparator.comparingDouble(MeasuredClient::score)).orElseThrow();
+	}
+
+	/**
+	 * The decorator of a {@link ForecastClient} keeping its statistics.
+	 */
+	private final class MeasuredClient implements ForecastClient {
+
+		private final ForecastClient delegate;
+		private final Counter calls;
+
+		private double latencyNanos;
+		private double errorRate;
+
+		private MeasuredClient(final ForecastClient delegate, final MeterRegistry registry) {
+			this.delegate = delegate;
+
+			final String tag = delegate.type().getExternalName();
+
+			TimeGauge.builder("dochnet.client.routing.latency", this, TimeUnit.NANOSECONDS, MeasuredClient::latency)
+					.tag("client", tag).description("The average latency of the answered calls per client variant")
+					.register(registry);
+			Gauge.builder("dochnet.client.routing.error.rate", this, MeasuredClient::errorRate).tag("client", tag)
+					.description("The average error rate of the calls per client variant").register(registry);
+
+			calls = Counter.builder("dochnet.client.routing.calls").tag("client", tag)
+					.description("The calls per client variant").register(registry);
+		}
+
+		@Override
+		public ClientType type() {
+			return delegate.type();
+		}
+
+		@Override
+		public ForecastBatch getForecasts() {
+			final long start = System.nanoTime();
+
+			calls.increment();
+
+			try {
+				final ForecastBatch forecasts = delegate.getForecasts();
+
+				onSample(System.nanoTime() - start, false);
+
+				return forecasts;
+			} catch (final ConcurrencyLimitExceededException e) {
+				throw e;
+			} catch (final RuntimeException e) {
+				onSample(System.nanoTime() - start, isVariantError(e));
+
+				throw e;
+			}
+		}
+
+		/**
+		 * Tells whether a failure depends on the client variant: no answer of the .NET service or a server error.
+		 */
+		private static boolean isVariantError(final RuntimeException e) {
+			return e instanceof WebClientRequestException || e instanceof ResourceAccessException
+					|| e instanceof RetryableException || e instanceof HttpServerErrorException
+					|| e instanceof WebClientResponseException response && response.getStatusCode().is5xxServerError()
+					|| e instanceof FeignException feign && feign.status() / 100 == 5;
+		}
+
+		private synchronized void onSample(final long nanos, final boolean failed) {
+			if (!failed) {
+				latencyNanos = latencyNanos == 0 ? nanos : latencyNanos + smoothing * (nanos - latencyNanos);
+			}
+
+			errorRate += smoothing * ((failed ? 1 : 0) - errorRate);
+
+			log.trace("{}: latency {} ns, error rate {}", delegate.type(), latencyNanos, errorRate);
+		}
+
+		/**
+		 * The expected time per successful call: {@code 0} without any sample, infinite if no call succeeded yet.
+		 */
+		private synchronized double score() {
+			if (latencyNanos == 0) {
+				return errorRate == 0 ? 0 : Double.POSITIVE_INFINITY;
+			}
+
+			return latencyNanos / Math.max(MIN_SUCCESS_RATE, 1 - errorRate);
+		}
+
+		private synchronized double latency() {
+			return latencyNanos;
+		}
+
+		private synchronized double errorRate() {
+			return errorRate;
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package de.infoteam.client;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import de.infoteam.errorhandling.ErrorService;
+import de.infoteam.model.ForecastBatch;
+import de.infoteam.timing.RequestTimings;
+import de.infoteam.timing.RequestTimings.Phase;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The {@link ForecastClient} working with a {@link RestTemplate}. The basic configuration is to be found in the
+ * {@link Configuration} bean {@code ApiConfig}.
+ * 
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.1
+ *
+ */
+@Component
+@RequiredArgsConstructor
+class RestTemplateForecastClient implements ForecastClient {
+
+	private final RestTemplate restTemplate;
+	private final ErrorService errorService;
+
+	@Override
+	public ClientType type() {
+		return ClientType.REST_TEMPLATE;
+	}
+
+	@Override
+	public ForecastBatch getForecasts() {
+		RequestTimings.markCurrent();
+
+		final ForecastBatch forecasts = restTemplate.getForObject("/WeatherForecast", ForecastBatch.class);
+
+		RequestTimings.lapCurrent(Phase.DECODE);
+		errorService.validateDotNetResponse(forecasts);
+		RequestTimings.lapCurrent(Phase.VALIDATE);
+
+		return forecasts;
+	}
+}
@@ -0,0 +1,24 @@
+package de.infoteam.client;
+
+/**
+ * Thrown if a requested client variant is neither one of the {@link ClientType}s nor the adaptive selection.
+ * 
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.0
+ *
+ */
+public class UnknownClientTypeException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Creates the exception for the unknown name.
+	 * 
+	 * @param name the requested name, may be {@code null}
+	 */
+	UnknownClientTypeException(final String name) {
+		super("Unknown forecast client '" + name + "', expected '" + ForecastClientRouter.ADAPTIVE
+				+ "' or the name of a client type");
+	}
+}
@@ -0,0 +1,53 @@
+package de.infoteam.client;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import de.infoteam.errorhandling.ErrorService;
+import de.infoteam.model.ForecastBatch;
+import de.infoteam.timing.RequestTimings;
+import de.infoteam.timing.RequestTimings.Phase;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * The {@link ForecastClient} working with a {@link WebClient}. The basic configuration is to be found in the
+ * {@link Configuration} bean {@code ApiConfig}.
+ * <p>
+ * The time not recorded by the client's own timing hooks is attributed to the decoding, the validation is measured
+ * separately.
+ * 
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.1
+ *
+ */
+@Component
+@RequiredArgsConstructor
+class WebClientForecastClient implements ForecastClient {
+
+	private final WebClient webClient;
+	private final ErrorService errorService;
+
+	@Override
+	public ClientType type() {
+		return ClientType.WEB_CLIENT;
+	}
+
+	@Override
+	public ForecastBatch getForecasts() {
+		final Mono<ForecastBatch> serviceCallResult = webClient.get().uri("/WeatherForecast").retrieve()
+				.bodyToMono(ForecastBatch.class);
+
+		RequestTimings.markCurrent();
+
+		final ForecastBatch responseBody = serviceCallResult.block();
+
+		RequestTimings.lapCurrent(Phase.DECODE);
+		errorService.validateDotNetResponse(responseBody);
+		RequestTimings.lapCurrent(Phase.VALIDATE);
+
+		return responseBody;
+	}
+}
@@ -14,6 +14,7 @@ import javax.net.ssl.TrustManagerFactory;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.ssl.SSLContextBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
@@ -28,7 +29,19 @@ import org.springframework.util.ResourceUtils;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import de.infoteam.resilience.AdaptiveConcurrencyLimiter;
+import de.infoteam.resilience.ConcurrencyLimitingExchangeFilter;
+import de.infoteam.resilience.ConcurrencyLimitingFeignClient;
+import de.infoteam.resilience.ConcurrencyLimitingInterceptor;
+import de.infoteam.resilience.RetryPolicy;
+import de.infoteam.resilience.RetryingExchangeFilter;
+import de.infoteam.resilience.RetryingFeignClient;
+import de.infoteam.resilience.RetryingInterceptor;
+import de.infoteam.timing.ApacheClientTimings;
+import de.infoteam.timing.RequestTimings;
+import de.infoteam.timing.WebClientTimings;
 import feign.Client;
+import feign.httpclient.ApacheHttpClient;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import lombok.NoArgsConstructor;
@@ -45,10 +58,22 @@ import reactor.netty.http.client.HttpClient;
  * <li>Secure the clients with a {@code TLS} security, based on the certificate the {@code .NET} service uses</li>
  * <li>Prepare the clients with the base URL to the secured service ({@code HTTPS})</li>
  * </ul>
+ * All 3 clients decode with the single {@code ObjectMapper} of Spring Boot's Jackson auto-configuration: the
+ * {@link WebClient} through the codecs of Spring's {@link WebClient.Builder}, the {@link FeignClient} through Spring's
+ * message converters and the {@link RestTemplate} through those of the {@link RestTemplateBuilder}. Thus the
+ * (de)serializers are built once per type and Jackson's buffers are recycled across the requests of all clients.
+ * All 3 clients share the {@link AdaptiveConcurrencyLimiter} and the {@link RetryPolicy} for the calls to the
+ * {@code .NET} service. The retries wrap the limiter: each attempt takes its own slot and yields its own RTT sample,
+ * and no slot is held during the backoff between two attempts. The {@link FeignClient} and the
+ * {@link RestTemplate} both use Apache's {@code HttpClient} as transport, sized by the limiter's maximum so that the
+ * pool does not become a second, fixed limit. The transports' own automatic retries are disabled, so the
+ * {@link RetryPolicy} is the only retry layer.
+ * <p>
+ * The transports are instrumented for the {@link RequestTimings} of sampled requests.
  * 
  * @author Dirk Weissmann
  * @since 2022-03-03
- * @version 2.0
+ * @version 2.7
  * 
  * @see <a href="https://www.computerweekly.com/de/definition/Transport-Layer-Security-TLS">TLS (German)</a>
  *
@@ -67,34 +92,50 @@ public class ApiConfig {
 	@Value("${doch.net.security.server_pw}")
 	private char[] serverPw;
 
+	@Value("${doch.net.client.concurrency.max-limit:200}")
+	private int maxConnections;
+
 	/**
 	 * Provides the {@link WebClient} {@link Bean} for further use with a configuration containing the secured
 	 * ({@code HTTPS}) URL to the {@code .NET} service as well as the TLS support.
 	 * 
-	 * @param builder the object based on the {@code Builder} pattern for creating a {@link WebClient} {@link Bean}
+	 * @param builder the object based on the {@code Builder} pattern for creating a {@link WebClient} {@link Bean},
+	 *                carrying the shared {@code JSON} codecs
+	 * @param limiter the shared {@link AdaptiveConcurrencyLimiter} for the calls
+	 * @param retries the shared {@link RetryPolicy} for the calls
 	 * 
 	 * @return the {@link WebClient} bean, never {@code null}
 	 */
 	@Bean
 	@SneakyThrows
-	WebClient webClient(final WebClient.Builder builder) {
+	WebClient webClient(final WebClient.Builder builder, final AdaptiveConcurrencyLimiter limiter,
+			final RetryPolicy retries) {
 		final SslContext sslContext = SslContextBuilder.forClient().keyManager(createKeyManagerFactory())
 				.trustManager(createTrustManagerFactory()).build();
-		final HttpClient client = HttpClient.create().secure(spec -> spec.sslContext(sslContext));
+		final HttpClient client = WebClientTimings
+				.instrument(HttpClient.create().secure(spec -> spec.sslContext(sslContext)).disableRetry(true));
 		final ClientHttpConnector connector = new ReactorClientHttpConnector(client);
 
-		return WebClient.builder().baseUrl(securedUrl).clientConnector(connector).build();
+		return builder.baseUrl(securedUrl).clientConnector(connector).filter(WebClientTimings.contextFilter())
+				.filter(new RetryingExchangeFilter(retries)).filter(new ConcurrencyLimitingExchangeFilter(limiter))
+				.build();
 	}
 
 	/**
 	 * Provides a {@link FeignClient} that is trusted for calling the secured .NET service.
 	 * 
+	 * @param limiter the shared {@link AdaptiveConcurrencyLimiter} for the calls
+	 * @param retries the shared {@link RetryPolicy} for the calls
+	 * 
 	 * @return a TLS-ready {@link FeignClient} for using the {@code X509} certificate secured .NET service
 	 */
 	@Bean
 	@SneakyThrows
-	public Client feignClient() {
-		return new Client.Default(createSSLContext().getSocketFactory(), null);
+	public Client feignClient(final AdaptiveConcurrencyLimiter limiter, final RetryPolicy retries) {
+		final Client transport = new ApacheHttpClient(
+				createHttpClient(SSLConnectionSocketFactory.getDefaultHostnameVerifier()));
+
+		return new RetryingFeignClient(new ConcurrencyLimitingFeignClient(transport, limiter), retries);
 	}
 
 	/**
@@ -102,12 +143,15 @@ public class ApiConfig {
 	 * key-/truststore to the secured .NET service.
 	 * 
 	 * @param builder the object based on the {@code Builder} pattern for creating a {@link RestTemplate} {@link Bean}
+	 * @param limiter the shared {@link AdaptiveConcurrencyLimiter} for the calls
+	 * @param retries the shared {@link RetryPolicy} for the calls
 	 * 
 	 * @return the {@link RestTemplate} bean, never {@code null}
 	 */
 	@Bean
 	@SneakyThrows
-	RestTemplate restTemplate(final RestTemplateBuilder builder) {
+	RestTemplate restTemplate(final RestTemplateBuilder builder, final AdaptiveConcurrencyLimiter limiter,
+			final RetryPolicy retries) {
 		final HostnameVerifier verifier = (final String ownHostname, final SSLSession sslSession) -> {
 			try {
 				return new URL(securedUrl).openConnection() != null;
@@ -117,11 +161,32 @@ public class ApiConfig {
 			}
 		};
 
-		final SSLConnectionSocketFactory socketFactory = new SSLConnectionSocketFactory(createSSLContext(), verifier);
-		final CloseableHttpClient httpClient = HttpClients.custom().setSSLSocketFactory(socketFactory).build();
-		final ClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+		final ClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(
+				createHttpClient(verifier));
+
+		return builder.requestFactory(() -> requestFactory).rootUri(securedUrl)
+				.additionalInterceptors(new RetryingInterceptor(retries, new ConcurrencyLimitingInterceptor(limiter)))
+				.build();
+	}
+
+	/**
+	 * Creates an Apache {@code HttpClient} with the {@code TLS} support for the .NET service, a connection pool sized
+	 * by the concurrency limiter's maximum and the timing hooks. Its automatic retries are disabled, the retries are up
+	 * to the {@link RetryPolicy}.
+	 * 
+	 * @param verifier the {@link HostnameVerifier} for the {@code HTTPS} connections, must not be {@code null}
+	 * 
+	 * @return the {@link CloseableHttpClient}, never {@code null}
+	 */
+	private CloseableHttpClient createHttpClient(final HostnameVerifier verifier) {
+		final PoolingHttpClientConnectionManager connectionManager = ApacheClientTimings
+				.connectionManager(createSSLContext(), verifier);
+
+		connectionManager.setMaxTotal(maxConnections);
+		connectionManager.setDefaultMaxPerRoute(maxConnections);
 
-		return builder.requestFactory(() -> requestFactory).rootUri(securedUrl).build();
+		return ApacheClientTimings.instrument(HttpClients.custom()).setConnectionManager(connectionManager)
+				.disableAutomaticRetries().build();
 	}
 
 	/**
@@ -12,14 +12,19 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 
 import de.infoteam.model.Error;
+import de.infoteam.resilience.AdaptiveConcurrencyLimiter;
+import de.infoteam.resilience.ConcurrencyLimitExceededException;
+import de.infoteam.resilience.RetryPolicy;
 import feign.RetryableException;
 
 /**
  * Error handling for the different client solutions in case of a not successful connection to the .NET service.
+ * Connection-level failures of idempotent calls end up here only after the retries of the {@link RetryPolicy} are
+ * exhausted or denied by its budget.
  * 
  * @author Dirk Weissmann
  * @since 2022-03-03
- * @version 1.0
+ * @version 1.2
  * @see ExceptionHandler
  *
  */
@@ -70,4 +75,18 @@ class ClientNoConnectionHandler {
 	ResponseEntity<Error> handleRestTemplate(final ResourceAccessException ex) {
 		return service.provideError(ex, HttpStatus.INTERNAL_SERVER_ERROR);
 	}
+
+	/**
+	 * No connection attempt at all for any of the client solutions: The {@link AdaptiveConcurrencyLimiter} rejected the
+	 * call with a {@link ConcurrencyLimitExceededException}.
+	 * 
+	 * @param ex the {@link ConcurrencyLimitExceededException}, never {@code null}
+	 * 
+	 * @return the response in case of an error with the status {@link HttpStatus#SERVICE_UNAVAILABLE}, never
+	 *         {@code null}
+	 */
+	@ExceptionHandler(ConcurrencyLimitExceededException.class)
+	ResponseEntity<Error> handleConcurrencyLimit(final ConcurrencyLimitExceededException ex) {
+		return service.provideError(ex, HttpStatus.SERVICE_UNAVAILABLE);
+	}
 }
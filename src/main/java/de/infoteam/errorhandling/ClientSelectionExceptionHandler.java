@@ -0,0 +1,39 @@
+package de.infoteam.errorhandling;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import de.infoteam.client.ForecastClientRouter;
+import de.infoteam.client.UnknownClientTypeException;
+import de.infoteam.model.Error;
+
+/**
+ * Error handling in case of a client variant requested from the {@link ForecastClientRouter} that does not exist.
+ * 
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.0
+ * @see ExceptionHandler
+ *
+ */
+@RestControllerAdvice
+class ClientSelectionExceptionHandler {
+
+	@Autowired
+	private ErrorService service;
+
+	/**
+	 * The request header named an unknown client variant.
+	 * 
+	 * @param ex the {@link UnknownClientTypeException}, never {@code null}
+	 * 
+	 * @return the response in case of an error with the status {@link HttpStatus#BAD_REQUEST}, never {@code null}
+	 */
+	@ExceptionHandler(UnknownClientTypeException.class)
+	ResponseEntity<Error> handleUnknownClientType(final UnknownClientTypeException ex) {
+		return service.provideError(ex, HttpStatus.BAD_REQUEST);
+	}
+}
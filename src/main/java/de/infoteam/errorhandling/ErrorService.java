@@ -1,7 +1,6 @@
 package de.infoteam.errorhandling;
 
 import java.net.URI;
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -12,6 +11,13 @@ import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import javax.validation.Valid;
 import javax.validation.Validator;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.ConstraintDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -20,6 +26,7 @@ import org.springframework.stereotype.Service;
 
 import de.infoteam.model.Error;
 import de.infoteam.model.Error.InvalidParam;
+import de.infoteam.model.ForecastBatch;
 import de.infoteam.model.WeatherForecast;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -29,7 +36,7 @@ import lombok.extern.log4j.Log4j2;
  * 
  * @author Dirk Weissmann
  * @since 2022-03-03
- * @version 0.3
+ * @version 0.6
  *
  * @see <a href="https://datatracker.ietf.org/doc/html/rfc7807">RFC7807</a>
  *
@@ -79,17 +86,82 @@ public class ErrorService {
 
 	/**
 	 * A helper method which is a shame: Validation in Feign is done with 2 annotations - and that's about it! This here
-	 * is programmed like in old days - WTF.
+	 * is programmed like in old days - WTF. The {@link ForecastBatch} is validated on its columns: the bounds of the
+	 * {@link WeatherForecast} constraints are taken from the bean metadata. Only an item with a value outside these
+	 * bounds is created as record and validated, so the violations are the same as for the records.
 	 * 
-	 * @param wtfItems the {@link WeatherForecast} items to be validated
+	 * @param batch the {@link ForecastBatch} to be validated
 	 */
-	public void validateDotNetResponse(final WeatherForecast[] wtfItems) {
+	public void validateDotNetResponse(final ForecastBatch batch) {
+		final BeanDescriptor bean = validator.getConstraintsForClass(WeatherForecast.class);
+		final Bounds date = Bounds.of(bean, "date");
+		final Bounds temperatureC = Bounds.of(bean, "temperatureC");
+		final Bounds temperatureF = Bounds.of(bean, "temperatureF");
+		final Bounds summaryLength = Bounds.of(bean, "summary");
 		final Set<ConstraintViolation<WeatherForecast>> returnSet = new HashSet<>();
 
-		Arrays.stream(wtfItems).forEach((final WeatherForecast wtf) -> returnSet.addAll(validator.validate(wtf)));
+		for (int i = 0; i < batch.size(); i++) {
+			final long millis = batch.epochMillis(i);
+			final int celsius = batch.temperatureC(i);
+			final int fahrenheit = batch.temperatureF(i);
+			final String summary = batch.summary(i);
+
+			if (!date.admits(millis == ForecastBatch.NO_DATE, millis)
+					|| !temperatureC.admits(celsius == ForecastBatch.NO_TEMPERATURE, celsius)
+					|| !temperatureF.admits(fahrenheit == ForecastBatch.NO_TEMPERATURE, fahrenheit)
+					|| !summaryLength.admits(summary == null, summary == null ? 0 : summary.length())) {
+				returnSet.addAll(validator.validate(batch.get(i)));
+			}
+		}
 
 		if (!returnSet.isEmpty()) {
 			throw new ConstraintViolationException(returnSet);
 		}
 	}
+
+	/**
+	 * The bounds of a property's value - of its length for a {@link String} - as set by its {@link NotNull},
+	 * {@link Min}, {@link Max} and {@link Size} constraints. Any other constraint - also on class level - is not
+	 * described by bounds, so that all values of the property are left to the validation of the record.
+	 * 
+	 * @param min      the lowest admitted value
+	 * @param max      the highest admitted value
+	 * @param nullable whether a missing value is admitted
+	 * @param complete whether the constraints are fully described by the bounds
+	 */
+	private record Bounds(long min, long max, boolean nullable, boolean complete) {
+
+		private static Bounds of(final BeanDescriptor bean, final String property) {
+			final PropertyDescriptor descriptor = bean.getConstraintsForProperty(property);
+			long min = Long.MIN_VALUE;
+			long max = Long.MAX_VALUE;
+			boolean nullable = true;
+			boolean complete = bean.getConstraintDescriptors().isEmpty();
+
+			if (descriptor == null) {
+				return new Bounds(min, max, nullable, complete);
+			}
+
+			for (final ConstraintDescriptor<?> constraint : descriptor.getConstraintDescriptors()) {
+				if (constraint.getAnnotation() instanceof NotNull) {
+					nullable = false;
+				} else if (constraint.getAnnotation() instanceof final Min bound) {
+					min = Math.max(min, bound.value());
+				} else if (constraint.getAnnotation() instanceof final Max bound) {
+					max = Math.min(max, bound.value());
+				} else if (constraint.getAnnotation() instanceof final Size bound) {
+					min = Math.max(min, bound.min());
+					max = Math.min(max, bound.max());
+				} else {
+					complete = false;
+				}
+			}
+
+			return new Bounds(min, max, nullable, complete);
+		}
+
+		private boolean admits(final boolean missing, final long value) {
+			return complete && (missing ? nullable : value >= min && value <= max);
+		}
+	}
 }
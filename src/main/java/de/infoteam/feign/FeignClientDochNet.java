@@ -4,8 +4,6 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
-import javax.validation.Valid;
-
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.context.annotation.Configuration;
@@ -13,6 +11,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 
 import de.infoteam.configuration.ApiConfig;
+import de.infoteam.model.ForecastBatch;
 import de.infoteam.model.WeatherForecast;
 
 /**
@@ -39,7 +38,7 @@ import de.infoteam.model.WeatherForecast;
  * 
  * @author Dirk Weissmann
  * @since 2022-03-03
- * @version 1.0
+ * @version 1.2
  * 
  * @see <a href="https://stackoverflow.com/questions/67191617/springboot-feignclient-vs-webclient">WebClient vs.
  *      OpenFeign on Stackoverflow</a>
@@ -50,10 +49,11 @@ import de.infoteam.model.WeatherForecast;
 public interface FeignClientDochNet {
 
 	/**
-	 * The endpoint from the {@code .NET} service that is to be called.
+	 * The endpoint from the {@code .NET} service that is to be called, read into a compact {@link ForecastBatch} of
+	 * {@link WeatherForecast} items. There is no automatic validation for the batch.
 	 * 
-	 * @return a {@link List} of {@link WeatherForecast} items, never {@code null}
+	 * @return the {@link ForecastBatch}, never {@code null}
 	 */
 	@GetMapping("/WeatherForecast")
-	List<@Valid WeatherForecast> getForecasts();
+	ForecastBatch getForecastBatch();
 }
@@ -0,0 +1,195 @@
+package de.infoteam.forecast;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Component;
+
+import de.infoteam.model.ForecastStatistics;
+import de.infoteam.model.ForecastStatistics.Aggregate;
+import de.infoteam.model.ForecastStatistics.TemperatureStatistics;
+import de.infoteam.model.WeatherForecast;
+
+/**
+ * The temperature statistics of the forecasts in the {@link ForecastStore}, per day and per summary. The
+ * {@link ForecastStore} reports each added, replaced and evicted forecast, so the statistics are updated incrementally
+ * in primitive accumulators instead of being computed per request. After each merge an immutable
+ * {@link ForecastStatistics} snapshot is published, which the requests read in constant time.
+ * <p>
+ * Minimum and maximum have to survive the removal of a forecast, so each temperature is counted in a histogram; the
+ * temperatures of the .NET service span only a small range.
+ * 
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.0
+ *
+ */
+@Component
+public class ForecastAggregates {
+
+	private final Map<LocalDate, Accumulator> days = new HashMap<>();
+	private final Map<String, Accumulator> summaries = new HashMap<>();
+
+	private volatile ForecastStatistics snapshot = new ForecastStatistics(Map.of(), Map.of());
+
+	/**
+	 * Provides the statistics as of the latest merge into the {@link ForecastStore}.
+	 * 
+	 * @return the {@link ForecastStatistics}, never {@code null}
+	 */
+	public ForecastStatistics snapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * Takes a forecast into account.
+	 * 
+	 * @param forecast the validated {@link WeatherForecast}, must not be {@code null}
+	 */
+	synchronized void add(final WeatherForecast forecast) {
+		days.computeIfAbsent(forecast.date().toLocalDate(), day -> new Accumulator()).add(forecast);
+
+		if (forecast.summary() != null) {
+			summaries.computeIfAbsent(forecast.summary(), summary -> new Accumulator()).add(forecast);
+		}
+	}
+
+	/**
+	 * Takes a previously added forecast out of account.
+	 * 
+	 * @param forecast the {@link WeatherForecast} as it was added, must not be {@code null}
+	 */
+	synchronized void remove(final WeatherForecast forecast) {
+		remove(days, forecast.date().toLocalDate(), forecast);
+
+		if (forecast.summary() != null) {
+			remove(summaries, forecast.summary(), forecast);
+		}
+	}
+
+	/**
+	 * Publishes the current statistics as new snapshot.
+	 */
+	synchronized void publish() {
+		snapshot = new ForecastStatistics(Collections.unmodifiableMap(collect(days, new TreeMap<>())),
+				Collections.unmodifiableMap(collect(summaries, new TreeMap<>())));
+	}
+
+	private static <K> void remove(final Map<K, Accumulator> groups, final K key, final WeatherForecast forecast) {
+		final Accumulator accumulator = groups.get(key);
+
+		if (accumulator != null && accumulator.remove(forecast)) {
+			groups.remove(key);
+		}
+	}
+
+	private static <K> Map<K, TemperatureStatistics> collect(final Map<K, Accumulator> groups,
+			final Map<K, TemperatureStatistics> target) {
+		groups.forEach((key, accumulator) -> target.put(key, accumulator.toStatistics()));
+
+		return target;
+	}
+
+	/**
+	 * The accumulated temperatures of a group of forecasts.
+	 */
+	private static final class Accumulator {
+
+		private final Histogram celsius = new Histogram();
+		private final Histogram fahrenheit = new Histogram();
+
+		private void add(final WeatherForecast forecast) {
+			celsius.add(forecast.temperatureC());
+			fahrenheit.add(forecast.temperatureF());
+		}
+
+		/**
+		 * @return {@code true} if the group is empty now
+		 */
+		private boolean remove(final WeatherForecast forecast) {
+			celsius.remove(forecast.temperatureC());
+			fahrenheit.remove(forecast.temperatureF());
+
+			return celsius.count == 0;
+		}
+
+		private TemperatureStatistics toStatistics() {
+			return new TemperatureStatistics(celsius.count, celsius.toAggregate(), fahrenheit.toAggregate());
+		}
+	}
+
+	/**
+	 * The counts per temperature of a group, with the running sum, minimum and maximum.
+	 */
+	private static final class Histogram {
+
+		/* The additional range allocated when the histogram has to grow */
+		private static final int HEADROOM = 16;
+
+		private int[] counts = new int[0];
+		private int offset;
+		private int count;
+		private long sum;
+		private int min;
+		private int max;
+
+		private void add(final int value) {
+			if (count == 0) {
+				min = value;
+				max = value;
+			} else {
+				min = Math.min(min, value);
+				max = Math.max(max, value);
+			}
+
+			ensureRange(value);
+			counts[value - offset]++;
+			count++;
+			sum += value;
+		}
+
+		private void remove(final int value) {
+			final int index = value - offset;
+
+			if (index < 0 || index >= counts.length || counts[index] == 0) {
+				return;
+			}
+
+			counts[index]--;
+			count--;
+			sum -= value;
+
+			if (count > 0 && counts[index] == 0) {
+				while (counts[min - offset] == 0) {
+					min++;
+				}
+
+				while (counts[max - offset] == 0) {
+					max--;
+				}
+			}
+		}
+
+		private void ensureRange(final int value) {
+			if (counts.length == 0) {
+				counts = new int[2 * HEADROOM + 1];
+				offset = value - HEADROOM;
+			} else if (value < offset || value >= offset + counts.length) {
+				final int low = Math.min(offset, value - HEADROOM);
+				final int high = Math.max(offset + counts.length, value + HEADROOM + 1);
+				final int[] grown = new int[high - low];
+
+				System.arraycopy(counts, 0, grown, offset - low, counts.length);
+				counts = grown;
+				offset = low;
+			}
+		}
+
+		private Aggregate toAggregate() {
+			return new Aggregate(min, max, (double) sum / count);
+		}
+	}
+}
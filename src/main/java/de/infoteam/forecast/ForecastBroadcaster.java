@@ -0,0 +1,300 @@
+package de.infoteam.forecast;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+
+import org.reactivestreams.Subscription;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import de.infoteam.model.WeatherForecast;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * The fan-out of changed forecasts to any number of Server-Sent Events subscribers. The {@link ForecastPoller}
+ * publishes each change set once; every subscriber gets its own bounded buffer of change sets, so a slow subscriber
+ * never delays the poller or the other subscribers. If a subscriber's buffer overflows, the configured
+ * {@link BufferOverflowStrategy} applies:
+ * <dl>
+ * <dt>{@code DROP_OLDEST}, {@code DROP_LATEST}</dt>
+ * <dd>The subscriber misses a change set but stays connected</dd>
+ * <dt>{@code ERROR}</dt>
+ * <dd>The subscriber is detached from the change sets at once as slow consumer and disconnected after its buffered
+ * change sets are written</dd>
+ * </dl>
+ * The events are written to the subscribers' {@link SseEmitter}s by the broadcaster's own pool of writer threads, not
+ * by Spring MVC's shared task executor. A subscriber has at most one write queued or running at a time. A subscriber
+ * whose write takes longer than the write timeout is disconnected as stalled; its blocked thread is released by the
+ * socket timeout of the server connector ({@code server.tomcat.connection-timeout}).
+ * <p>
+ * Idle streams get a comment line as heartbeat, which also detects subscribers that went away. A heartbeat is only
+ * written if no change set is pending, so heartbeats never take the place of change sets. A stream ends after the
+ * configured stream timeout, an {@code EventSource} reconnects then; all other asynchronous requests keep Spring MVC's
+ * default timeout.
+ *
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.3
+ *
+ */
+@Component
+@Log4j2
+public class ForecastBroadcaster {
+
+	private final Sinks.Many<List<WeatherForecast>> sink = Sinks.many().multicast().directBestEffort();
+
+	private final int bufferSize;
+	private final BufferOverflowStrategy overflowStrategy;
+	private final Duration heartbeat;
+	private final Duration streamTimeout;
+	private final Duration writeTimeout;
+	private final ThreadPoolTaskExecutor writers = new ThreadPoolTaskExecutor();
+
+	private final Counter dropped;
+	private final Counter stalled;
+
+	/**
+	 * Creates the broadcaster with its writer threads and registers its metrics.
+	 *
+	 * @param bufferSize       the number of change sets buffered per subscriber, must be positive
+	 * @param overflowStrategy the policy for a subscriber's full buffer, must not be {@code null}
+	 * @param heartbeat        the interval of the heartbeat comments, must not be {@code null}
+	 * @param streamTimeout    the time after which a subscriber's stream ends, must not be {@code null}
+	 * @param writeTimeout     the time a write to a subscriber may take, must not be {@code null}
+	 * @param writerThreads    the number of threads writing to the subscribers, must be positive
+	 * @param registry         the {@link MeterRegistry} for publishing the metrics, must not be {@code null}
+	 */
+	public ForecastBroadcaster(@Value("${doch.net.stream.buffer-size:16}") final int bufferSize,
+			@Value("${doch.net.stream.overflow-strategy:DROP_OLDEST}") final BufferOverflowStrategy overflowStrategy,
+			@Value("${doch.net.stream.heartbeat:15s}") final Duration heartbeat,
+			@Value("${doch.net.stream.timeout:30m}") final Duration streamTimeout,
+			@Value("${doch.net.stream.write-timeout:10s}") final Duration writeTimeout,
+			@Value("${doch.net.stream.writer-threads:16}") final int writerThreads, final MeterRegistry registry) {
+		this.bufferSize = bufferSize;
+		this.overflowStrategy = overflowStrategy;
+		this.heartbeat = heartbeat;
+		this.streamTimeout = streamTimeout;
+		this.writeTimeout = writeTimeout;
+
+		writers.setCorePoolSize(writerThreads);
+		writers.setMaxPoolSize(writerThreads);
+		writers.setThreadNamePrefix("forecast-stream-");
+		writers.initialize();
+
+		Gauge.builder("dochnet.stream.subscribers", sink, Sinks.Many::currentSubscriberCount)
+				.description("The number of subscribers to the forecast change stream").register(registry);
+
+		dropped = Counter.builder("dochnet.stream.dropped")
+				.description("Change sets not delivered to a slow subscriber of the forecast change stream")
+				.register(registry);
+		stalled = Counter.builder("dochnet.stream.stalled")
+				.description("Subscribers of the forecast change stream disconnected after a write timeout")
+				.register(registry);
+	}
+
+	/**
+	 * Pushes a change set to all current subscribers without waiting for any of them. Must not be called concurrently.
+	 *
+	 * @param changed the new and changed forecasts, must not be {@code null} or empty
+	 */
+	void publish(final List<WeatherForecast> changed) {
+		sink.tryEmitNext(changed);
+	}
+
+	/**
+	 * Subscribes to the change sets published from now on.
+	 *
+	 * @return the {@link SseEmitter} of the stream of change sets and heartbeats, never {@code null}
+	 */
+	public SseEmitter subscribe() {
+		final SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+
+		changes().subscribe(new StreamWriter(emitter));
+
+		return emitter;
+	}
+
+	/**
+	 * Provides the change sets published from now on through a new subscriber's buffer.
+	 */
+	Flux<List<WeatherForecast>> changes() {
+		return sink.asFlux().onBackpressureBuffer(bufferSize, changeSet -> dropped.increment(), overflowStrategy)
+				.onErrorResume(Exceptions::isOverflow, e -> {
+					log.info("Disconnected a slow subscriber of the forecast change stream");
+
+					return Flux.empty();
+				});
+	}
+
+	/**
+	 * Completes all subscribers' streams and stops the writer threads when the service stops.
+	 */
+	@PreDestroy
+	void complete() {
+		sink.tryEmitComplete();
+		writers.shutdown();
+	}
+
+	/**
+	 * Writes the events of a subscriber to its {@link SseEmitter} on the writer threads. The next change set is
+	 * requested when the previous one is written, so a subscriber has at most one write queued or running and its other
+	 * change sets wait in its buffer. The emitter is only used by the writing thread or while no write is running,
+	 * since its methods block during a write.
+	 */
+	private final class StreamWriter extends BaseSubscriber<List<WeatherForecast>> {
+
+		private final SseEmitter emitter;
+
+		private Disposable heartbeats;
+		private List<WeatherForecast> pending;
+		private boolean writing;
+		private boolean completed;
+		private boolean timedOut;
+
+		private StreamWriter(final SseEmitter emitter) {
+			this.emitter = emitter;
+
+			emitter.onCompletion(this::dispose);
+			emitter.onError(e -> dispose());
+			emitter.onTimeout(() -> {
+				dispose();
+				finish();
+			});
+		}
+
+		@Override
+		protected void hookOnSubscribe(final Subscription subscription) {
+			heartbeats = Flux.interval(heartbeat).subscribe(tick -> onHeartbeat());
+			request(1);
+		}
+
+		@Override
+		protected synchronized void hookOnNext(final List<WeatherForecast> changeSet) {
+			pending = changeSet;
+			drain();
+		}
+
+		@Override
+		protected void hookOnComplete() {
+			finish();
+		}
+
+		@Override
+		protected void hookOnError(final Throwable e) {
+			log.warn("The forecast change stream failed", e);
+			finish();
+		}
+
+		@Override
+		protected void hookFinally(final SignalType type) {
+			heartbeats.dispose();
+		}
+
+		/**
+		 * Completes the emitter once the running write, if any, is done.
+		 */
+		private synchronized void finish() {
+			completed = true;
+			drain();
+		}
+
+		private synchronized void onHeartbeat() {
+			if (!writing && pending == null && !completed) {
+				write(SseEmitter.event().comment(""), false);
+			}
+		}
+
+		/**
+		 * Starts the write of the pending change set or completes the emitter, if no write is running.
+		 */
+		private void drain() {
+			if (writing) {
+				return;
+			}
+
+			if (pending != null) {
+				write(SseEmitter.event().name("forecasts").data(pending), true);
+				pending = null;
+			} else if (completed) {
+				emitter.complete();
+			}
+		}
+
+		private void write(final SseEventBuilder event, final boolean changeSet) {
+			final Disposable watchdog = Schedulers.parallel().schedule(this::onWriteTimeout, writeTimeout.toMillis(),
+					TimeUnit.MILLISECONDS);
+
+			writing = true;
+			writers.execute(() -> send(event, changeSet, watchdog));
+		}
+
+		private void send(final SseEventBuilder event, final boolean changeSet, final Disposable watchdog) {
+			try {
+				emitter.send(event);
+			} catch (final IOException | IllegalStateException e) {
+				/* The subscriber went away; an I/O error is reported to the emitter by the container */
+				dispose();
+
+				return;
+			} finally {
+				watchdog.dispose();
+			}
+
+			synchronized (this) {
+				writing = false;
+
+				if (timedOut) {
+					emitter.complete();
+
+					return;
+				}
+
+				if (!changeSet || completed) {
+					drain();
+
+					return;
+				}
+			}
+
+			/* Outside the lock: the buffer may pass the next change set on right away */
+			request(1);
+		}
+
+		/**
+		 * Detaches a subscriber whose write is blocked, the emitter is completed once the write returns.
+		 */
+		private void onWriteTimeout() {
+			synchronized (this) {
+				if (!writing) {
+					return;
+				}
+
+				timedOut = true;
+				completed = true;
+				pending = null;
+			}
+
+			stalled.increment();
+			log.info("Disconnected a stalled subscriber of the forecast change stream");
+			dispose();
+		}
+	}
+}
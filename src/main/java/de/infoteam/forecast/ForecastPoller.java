@@ -0,0 +1,64 @@
+package de.infoteam.forecast;
+
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import de.infoteam.errorhandling.ErrorService;
+import de.infoteam.model.ForecastBatch;
+import de.infoteam.model.WeatherForecast;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * The background job refreshing the {@link ForecastStore} from the {@code .NET} service. Each poll fetches the
+ * forecasts once with the {@link WebClient} as compact {@link ForecastBatch}, validates them and merges them into the
+ * store. The forecasts that are new or changed compared to the previous polls are pushed to the
+ * {@link ForecastBroadcaster}'s subscribers. A failed poll leaves the store as it is; the next poll follows after the
+ * configured interval.
+ * 
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.2
+ *
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+class ForecastPoller {
+
+	private final WebClient webClient;
+	private final ErrorService errorService;
+	private final ForecastStore store;
+	private final ForecastBroadcaster broadcaster;
+
+	/**
+	 * Fetches the current forecasts, merges them into the {@link ForecastStore} and publishes the changes.
+	 */
+	@Scheduled(fixedDelayString = "${doch.net.poller.interval:PT30S}")
+	void poll() {
+		try {
+			final ForecastBatch forecasts = webClient.get().uri("/WeatherForecast").retrieve()
+					.bodyToMono(ForecastBatch.class).block();
+
+			if (forecasts == null) {
+				return;
+			}
+
+			errorService.validateDotNetResponse(forecasts);
+
+			final List<WeatherForecast> changed = store.merge(forecasts);
+
+			log.debug("Polled {} forecasts from the .NET service, {} new or changed", forecasts.size(),
+					changed.size());
+
+			if (!changed.isEmpty()) {
+				broadcaster.publish(changed);
+			}
+		} catch (final RuntimeException e) {
+			log.warn("Polling the .NET service failed: {}", e.getLocalizedMessage());
+		}
+	}
+}
@@ -0,0 +1,354 @@
+package de.infoteam.forecast;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import de.infoteam.model.ForecastBatch;
+import de.infoteam.model.ForecastPage;
+import de.infoteam.model.SummaryDictionary;
+import de.infoteam.model.WeatherForecast;
+
+/**
+ * The in-memory store of the {@link WeatherForecast} items delivered by the {@code .NET} service, kept in columns like
+ * a {@link ForecastBatch}: the items are sorted by date into segments of up to {@value #SEGMENT_SIZE} items, each with
+ * primitive arrays for the dates, the temperatures and the summaries' codes - about 17 bytes per item. The first dates
+ * of the segments form the index, so range queries locate their start by binary search and create records only for
+ * the items of the requested page; they never call the .NET service.
+ * <p>
+ * The store is refreshed incrementally by the {@link ForecastPoller}: new and changed items are merged into the
+ * segments they belong to, items that are not delivered anymore are kept as history. If the store exceeds its
+ * configured size, the oldest items are evicted. Each change is reported to the {@link ForecastAggregates}.
+ * <p>
+ * Segments are immutable. A merge replaces the segments it changes and publishes all segments at once, so queries
+ * read a consistent state without locking. The summaries' codes are those of the {@link SummaryDictionary}, so items
+ * are copied from a batch without looking up their summaries.
+ *
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 2.1
+ *
+ */
+@Component
+public class ForecastStore {
+
+	/* The maximum number of items per page */
+	static final int MAX_LIMIT = 100;
+
+	/* The maximum number of items per segment */
+	static final int SEGMENT_SIZE = 256;
+
+	private final int maxEntries;
+	private final ForecastAggregates aggregates;
+
+	private volatile Snapshot snapshot = new Snapshot(new Segment[0], new long[0]);
+
+	/**
+	 * Creates the empty store.
+	 *
+	 * @param maxEntries the maximum number of stored items, must be positive
+	 * @param aggregates the {@link ForecastAggregates} to keep up to date, must not be {@code null}
+	 */
+	public ForecastStore(@Value("${doch.net.store.max-entries:10000}") final int maxEntries,
+			final ForecastAggregates aggregates) {
+		this.maxEntries = maxEntries;
+		this.aggregates = aggregates;
+	}
+
+	/**
+	 * Merges the items of an upstream response into the segments. Items that are already stored unchanged are
+	 * skipped; of several items with the same date the last one counts.
+	 *
+	 * @param batch the validated {@link ForecastBatch}, must not be {@code null}
+	 *
+	 * @return the new and changed items in ascending date order, never {@code null}
+	 */
+	public synchronized List<WeatherForecast> merge(final ForecastBatch batch) {
+		final Segment[] segments = snapshot.segments();
+		final int[] order = dateOrder(batch);
+		final List<Segment> merged = new ArrayList<>(segments.length + 1);
+		final List<WeatherForecast> changed = new ArrayList<>();
+		int next = 0;
+
+		for (int s = 0; s < Math.max(1, segments.length); s++) {
+			final Segment segment = segments.length == 0 ? Segment.EMPTY : segments[s];
+			int end = next;
+
+			while (end < order.length
+					&& (s + 1 >= segments.length || batch.epochMillis(order[end]) < segments[s + 1].epochMillis[0])) {
+				end++;
+			}
+
+			if (end > next) {
+				merge(segment, batch, Arrays.copyOfRange(order, next, end), merged, changed);
+				next = end;
+			} else if (segment.size() > 0) {
+				merged.add(segment);
+			}
+		}
+
+		evict(merged);
+		snapshot = new Snapshot(merged.toArray(new Segment[0]),
+				merged.stream().mapToLong(segment -> segment.epochMillis[0]).toArray());
+		aggregates.publish();
+
+		return changed;
+	}
+
+	/**
+	 * Reads a page of the stored items in ascending date order.
+	 *
+	 * @param from   the earliest date (inclusive), {@code null} for no lower bound
+	 * @param to     the latest date (inclusive), {@code null} for no upper bound
+	 * @param cursor the {@link ForecastPage#nextCursor()} of the previous page, {@code null} for the first page
+	 * @param limit  the maximum number of items, capped to the range {@code 1..}{@value #MAX_LIMIT}
+	 *
+	 * @return the page, never {@code null}
+	 */
+	public ForecastPage query(final LocalDateTime from, final LocalDateTime to, final LocalDateTime cursor,
+			final int limit) {
+		final boolean afterCursor = cursor != null && (from == null || !cursor.isBefore(from));
+		final long lower = afterCursor ? after(cursor) : from == null ? Long.MIN_VALUE : atOrAfter(from);
+		final long upper = to == null ? Long.MAX_VALUE : atOrBefore(to);
+		final Snapshot current = snapshot;
+		final Segment[] segments = current.segments();
+		final int pageSize = Math.max(1, Math.min(limit, MAX_LIMIT));
+		final List<WeatherForecast> page = new ArrayList<>(pageSize);
+
+		int s = Math.max(0, insertionPoint(current.firstDates(), lower) - 1);
+		int i = segments.length == 0 ? 0 : insertionPoint(segments[s].epochMillis, lower);
+
+		for (; s < segments.length; s++, i = 0) {
+			final Segment segment = segments[s];
+
+			for (; i < segment.size() && segment.epochMillis[i] <= upper; i++) {
+				if (page.size() == pageSize) {
+					return new ForecastPage(page, page.get(pageSize - 1).date());
+				}
+
+				page.add(segment.get(i));
+			}
+
+			if (i < segment.size()) {
+				break;
+			}
+		}
+
+		return new ForecastPage(page, null);
+	}
+
+	/**
+	 * Merges the items of the batch that belong to a segment and adds the resulting segments to the list.
+	 */
+	private void merge(final Segment segment, final ForecastBatch batch, final int[] items, final List<Segment> merged,
+			final List<WeatherForecast> changed) {
+		final Segment.Builder builder = new Segment.Builder(segment.size() + items.length);
+		boolean modified = false;
+		int i = 0;
+
+		for (final int item : items) {
+			final long millis = batch.epochMillis(item);
+
+			while (i < segment.size() && segment.epochMillis[i] < millis) {
+				builder.add(segment, i++);
+			}
+
+			final int celsius = batch.temperatureC(item);
+			final int fahrenheit = batch.temperatureF(item);
+			final byte code = batch.summaryCode(item);
+			final boolean stored = i < segment.size() && segment.epochMillis[i] == millis;
+
+			if (stored && segment.temperaturesC[i] == celsius && segment.temperaturesF[i] == fahrenheit
+					&& segment.summaryCodes[i] == code) {
+				builder.add(segment, i++);
+				continue;
+			}
+
+			if (stored) {
+				aggregates.remove(segment.get(i++));
+			}
+
+			final WeatherForecast forecast = batch.get(item);
+
+			aggregates.add(forecast);
+			changed.add(forecast);
+			builder.add(millis, celsius, fahrenheit, code);
+			modified = true;
+		}
+
+		while (i < segment.size()) {
+			builder.add(segment, i++);
+		}
+
+		if (modified) {
+			builder.split(merged);
+		} else {
+			merged.add(segment);
+		}
+	}
+
+	/**
+	 * Removes the oldest items beyond the configured size from the segments.
+	 */
+	private void evict(final List<Segment> segments) {
+		int excess = segments.stream().mapToInt(Segment::size).sum() - maxEntries;
+
+		while (excess > 0) {
+			final Segment oldest = segments.get(0);
+			final int evicted = Math.min(excess, oldest.size());
+
+			for (int i = 0; i < evicted; i++) {
+				aggregates.remove(oldest.get(i));
+			}
+
+			if (evicted == oldest.size()) {
+				segments.remove(0);
+			} else {
+				segments.set(0, oldest.slice(evicted, oldest.size()));
+			}
+
+			excess -= evicted;
+		}
+	}
+
+	/**
+	 * Provides the indices of the batch's items in ascending date order, keeping only the last of equal dates.
+	 */
+	private static int[] dateOrder(final ForecastBatch batch) {
+		for (int i = 1; i < batch.size(); i++) {
+			if (batch.epochMillis(i - 1) >= batch.epochMillis(i)) {
+				final int[] sorted = IntStream.range(0, batch.size()).boxed()
+						.sorted(Comparator.comparingLong(batch::epochMillis)).mapToInt(Integer::intValue).toArray();
+				int count = 0;
+
+				for (int j = 0; j < sorted.length; j++) {
+					if (j + 1 == sorted.length || batch.epochMillis(sorted[j]) != batch.epochMillis(sorted[j + 1])) {
+						sorted[count++] = sorted[j];
+					}
+				}
+
+				return Arrays.copyOf(sorted, count);
+			}
+		}
+
+		return IntStream.range(0, batch.size()).toArray();
+	}
+
+	/**
+	 * @return the index of the first element that is not less than the key
+	 */
+	private static int insertionPoint(final long[] sorted, final long key) {
+		final int index = Arrays.binarySearch(sorted, key);
+
+		return index < 0 ? -index - 1 : index;
+	}
+
+	private static long after(final LocalDateTime date) {
+		final long millis = atOrBefore(date);
+
+		return millis == Long.MAX_VALUE ? millis : millis + 1;
+	}
+
+	private static long atOrAfter(final LocalDateTime date) {
+		return date.getNano() % 1_000_000 == 0 ? atOrBefore(date) : after(date);
+	}
+
+	/**
+	 * @return the latest epoch milliseconds not after the date, saturated at the range of {@code long}
+	 */
+	private static long atOrBefore(final LocalDateTime date) {
+		try {
+			return ForecastBatch.toEpochMillis(date);
+		} catch (final ArithmeticException e) {
+			return date.getYear() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+		}
+	}
+
+	/**
+	 * The segments and their index as published by a merge.
+	 *
+	 * @param segments   the segments in ascending date order
+	 * @param firstDates the first date of each segment
+	 */
+	private record Snapshot(Segment[] segments, long[] firstDates) {
+		/* Simple record, nothing to implement here */
+	}
+
+	/**
+	 * An immutable run of stored items in ascending date order, one primitive array per property.
+	 */
+	private static final class Segment {
+
+		private static final Segment EMPTY = new Segment(new long[0], new int[0], new int[0], new byte[0]);
+
+		private final long[] epochMillis;
+		private final int[] temperaturesC;
+		private final int[] temperaturesF;
+		private final byte[] summaryCodes;
+
+		private Segment(final long[] epochMillis, final int[] temperaturesC, final int[] temperaturesF,
+				final byte[] summaryCodes) {
+			this.epochMillis = epochMillis;
+			this.temperaturesC = temperaturesC;
+			this.temperaturesF = temperaturesF;
+			this.summaryCodes = summaryCodes;
+		}
+
+		private int size() {
+			return epochMillis.length;
+		}
+
+		private WeatherForecast get(final int index) {
+			return new WeatherForecast(ForecastBatch.toDate(epochMillis[index]), temperaturesC[index],
+					temperaturesF[index], SummaryDictionary.summary(summaryCodes[index]));
+		}
+
+		private Segment slice(final int from, final int to) {
+			return new Segment(Arrays.copyOfRange(epochMillis, from, to), Arrays.copyOfRange(temperaturesC, from, to),
+					Arrays.copyOfRange(temperaturesF, from, to), Arrays.copyOfRange(summaryCodes, from, to));
+		}
+
+		/**
+		 * Collects the items of the segments replacing a merged one.
+		 */
+		private static final class Builder {
+
+			private final Segment columns;
+			private int size;
+
+			private Builder(final int capacity) {
+				columns = new Segment(new long[capacity], new int[capacity], new int[capacity], new byte[capacity]);
+			}
+
+			private void add(final long millis, final int temperatureC, final int temperatureF, final byte code) {
+				columns.epochMillis[size] = millis;
+				columns.temperaturesC[size] = temperatureC;
+				columns.temperaturesF[size] = temperatureF;
+				columns.summaryCodes[size] = code;
+				size++;
+			}
+
+			private void add(final Segment segment, final int index) {
+				add(segment.epochMillis[index], segment.temperaturesC[index], segment.temperaturesF[index],
+						segment.summaryCodes[index]);
+			}
+
+			/**
+			 * Splits the items into segments of equal size, each not larger than {@value ForecastStore#SEGMENT_SIZE}.
+			 */
+			private void split(final List<Segment> segments) {
+				final int count = (size + SEGMENT_SIZE - 1) / SEGMENT_SIZE;
+
+				for (int part = 0; part < count; part++) {
+					segments.add(columns.slice(size * part / count, size * (part + 1) / count));
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,199 @@
+package de.infoteam.model;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * A compact, column-oriented batch of {@link WeatherForecast} items as delivered by the {@code .NET} service. Instead
+ * of an object per item with boxed temperatures and a {@link LocalDateTime}, the batch keeps primitive arrays:
+ * <ul>
+ * <li>The dates as epoch milliseconds of the local date and time taken as {@code UTC}</li>
+ * <li>The temperatures as {@code int} values</li>
+ * <li>The summaries as codes of the {@link SummaryDictionary}</li>
+ * </ul>
+ * That is about 17 bytes per item instead of more than 100. The batch is read from and written to {@code JSON} as the
+ * usual array of forecast objects without creating any {@link WeatherForecast} record; {@link #get(int)} creates one on
+ * demand, the other accessors read single values of the columns.
+ * <p>
+ * A batch is immutable. Missing values are kept as sentinels and returned as {@code null} by {@link #get(int)}, so
+ * that the bean validation of the record reports them.
+ * 
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.2
+ *
+ */
+@JsonSerialize(using = ForecastBatchSerializer.class)
+@JsonDeserialize(using = ForecastBatchDeserializer.class)
+public final class ForecastBatch {
+
+	/** The sentinel for a missing date */
+	public static final long NO_DATE = Long.MIN_VALUE;
+	/** The sentinel for a missing temperature */
+	public static final int NO_TEMPERATURE = Integer.MIN_VALUE;
+
+	final long[] epochMillis;
+	final int[] temperaturesC;
+	final int[] temperaturesF;
+	final byte[] summaryCodes;
+
+	private ForecastBatch(final long[] epochMillis, final int[] temperaturesC, final int[] temperaturesF,
+			final byte[] summaryCodes) {
+		this.epochMillis = epochMillis;
+		this.temperaturesC = temperaturesC;
+		this.temperaturesF = temperaturesF;
+		this.summaryCodes = summaryCodes;
+	}
+
+	/**
+	 * Tells the number of items.
+	 * 
+	 * @return the number of items, {@code 0} or more
+	 */
+	public int size() {
+		return epochMillis.length;
+	}
+
+	/**
+	 * Creates the record of an item.
+	 * 
+	 * @param index the item's index, between {@code 0} and {@link #size()} (exclusive)
+	 * 
+	 * @return the {@link WeatherForecast}, never {@code null}
+	 */
+	public WeatherForecast get(final int index) {
+		final long millis = epochMillis[index];
+
+		return new WeatherForecast(millis == NO_DATE ? null : toDate(millis), boxed(temperaturesC[index]),
+				boxed(temperaturesF[index]), summary(index));
+	}
+
+	/**
+	 * Provides the date of an item.
+	 * 
+	 * @param index the item's index, between {@code 0} and {@link #size()} (exclusive)
+	 * 
+	 * @return the epoch milliseconds of the local date and time taken as {@code UTC}, {@link #NO_DATE} if missing
+	 */
+	public long epochMillis(final int index) {
+		return epochMillis[index];
+	}
+
+	/**
+	 * Provides the temperature in Celsius of an item.
+	 * 
+	 * @param index the item's index, between {@code 0} and {@link #size()} (exclusive)
+	 * 
+	 * @return the temperature, {@link #NO_TEMPERATURE} if missing
+	 */
+	public int temperatureC(final int index) {
+		return temperaturesC[index];
+	}
+
+	/**
+	 * Provides the temperature in Fahrenheit of an item.
+	 * 
+	 * @param index the item's index, between {@code 0} and {@link #size()} (exclusive)
+	 * 
+	 * @return the temperature, {@link #NO_TEMPERATURE} if missing
+	 */
+	public int temperatureF(final int index) {
+		return temperaturesF[index];
+	}
+
+	/**
+	 * Provides the summary of an item from the {@link SummaryDictionary}, no {@link String} is created.
+	 * 
+	 * @param index the item's index, between {@code 0} and {@link #size()} (exclusive)
+	 * 
+	 * @return the summary, {@code null} if missing
+	 */
+	public String summary(final int index) {
+		return SummaryDictionary.summary(summaryCodes[index]);
+	}
+
+	/**
+	 * Provides the code of an item's summary.
+	 * 
+	 * @param index the item's index, between {@code 0} and {@link #size()} (exclusive)
+	 * 
+	 * @return the code in the {@link SummaryDictionary}, {@link SummaryDictionary#NO_SUMMARY} if missing
+	 */
+	public byte summaryCode(final int index) {
+		return summaryCodes[index];
+	}
+
+	/**
+	 * Converts a date to the representation in the batch.
+	 * 
+	 * @param date the local date and time, must not be {@code null}
+	 * 
+	 * @return the epoch milliseconds of the date taken as {@code UTC}, truncated to milliseconds
+	 * 
+	 * @throws ArithmeticException if the date is outside the range of epoch milliseconds
+	 */
+	public static long toEpochMillis(final LocalDateTime date) {
+		return date.toInstant(ZoneOffset.UTC).toEpochMilli();
+	}
+
+	/**
+	 * Converts the representation in the batch back to a date.
+	 * 
+	 * @param epochMillis the epoch milliseconds of the local date and time taken as {@code UTC}
+	 * 
+	 * @return the local date and time, never {@code null}
+	 */
+	public static LocalDateTime toDate(final long epochMillis) {
+		return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMillis, 1_000L),
+				(int) Math.floorMod(epochMillis, 1_000L) * 1_000_000, ZoneOffset.UTC);
+	}
+
+	private static Integer boxed(final int temperature) {
+		return temperature == NO_TEMPERATURE ? null : temperature;
+	}
+
+	/**
+	 * Collects the items of a batch while it is decoded.
+	 */
+	static final class Builder {
+
+		private long[] epochMillis;
+		private int[] temperaturesC;
+		private int[] temperaturesF;
+		private byte[] summaryCodes;
+		private int size;
+
+		Builder(final int capacity) {
+			epochMillis = new long[capacity];
+			temperaturesC = new int[capacity];
+			temperaturesF = new int[capacity];
+			summaryCodes = new byte[capacity];
+		}
+
+		void add(final long millis, final int temperatureC, final int temperatureF, final byte summaryCode) {
+			if (size == epochMillis.length) {
+				final int capacity = Math.max(16, size * 2);
+
+				epochMillis = Arrays.copyOf(epochMillis, capacity);
+				temperaturesC = Arrays.copyOf(temperaturesC, capacity);
+				temperaturesF = Arrays.copyOf(temperaturesF, capacity);
+				summaryCodes = Arrays.copyOf(summaryCodes, capacity);
+			}
+
+			epochMillis[size] = millis;
+			temperaturesC[size] = temperatureC;
+			temperaturesF[size] = temperatureF;
+			summaryCodes[size] = summaryCode;
+			size++;
+		}
+
+		ForecastBatch build() {
+			return new ForecastBatch(Arrays.copyOf(epochMillis, size), Arrays.copyOf(temperaturesC, size),
+					Arrays.copyOf(temperaturesF, size), Arrays.copyOf(summaryCodes, size));
+		}
+	}
+}
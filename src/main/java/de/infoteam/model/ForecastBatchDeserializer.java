@@ -0,0 +1,179 @@
+package de.infoteam.model;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Reads a {@code JSON} array of forecast objects straight into the columns of a {@link ForecastBatch}. Dates in the
+ * format of {@link WeatherForecast#date()} are read digit by digit from the parser's buffer, known summaries are
+ * matched against the {@link SummaryDictionary} in place. Unknown properties are skipped.
+ * <p>
+ * Only the formats of the .NET service are accepted: temperatures have to be integer numbers, summaries strings and
+ * dates strings in the format {@code yyyy-MM-dd'T'HH:mm:ss.SSS}. Anything else is reported to the
+ * {@link DeserializationContext} instead of being coerced or truncated.
+ * 
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.3
+ *
+ */
+class ForecastBatchDeserializer extends StdDeserializer<ForecastBatch> {
+
+	private static final long serialVersionUID = 1L;
+
+	/* The length of a date in the format yyyy-MM-dd'T'HH:mm:ss.SSS */
+	private static final int DATE_LENGTH = 23;
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	ForecastBatchDeserializer() {
+		super(ForecastBatch.class);
+	}
+
+	@Override
+	public ForecastBatch deserialize(final JsonParser parser, final DeserializationContext context)
+			throws IOException {
+		if (!parser.isExpectedStartArrayToken()) {
+			return (ForecastBatch) context.handleUnexpectedToken(ForecastBatch.class, parser);
+		}
+
+		final ForecastBatch.Builder builder = new ForecastBatch.Builder(INITIAL_CAPACITY);
+
+		for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+			if (token != JsonToken.START_OBJECT) {
+				return (ForecastBatch) context.handleUnexpectedToken(ForecastBatch.class, parser);
+			}
+
+			long millis = ForecastBatch.NO_DATE;
+			int temperatureC = ForecastBatch.NO_TEMPERATURE;
+			int temperatureF = ForecastBatch.NO_TEMPERATURE;
+			byte summaryCode = SummaryDictionary.NO_SUMMARY;
+
+			for (String name = parser.nextFieldName(); name != null; name = parser.nextFieldName()) {
+				final JsonToken value = parser.nextToken();
+
+				if (value == JsonToken.VALUE_NULL) {
+					continue;
+				}
+
+				switch (name) {
+				case "date" -> millis = readDate(parser, context);
+				case "temperatureC" -> temperatureC = readTemperature(parser, context);
+				case "temperatureF" -> temperatureF = readTemperature(parser, context);
+				case "summary" -> summaryCode = readSummary(parser, context);
+				default -> parser.skipChildren();
+				}
+			}
+
+			builder.add(millis, temperatureC, temperatureF, summaryCode);
+		}
+
+		return builder.build();
+	}
+
+	private static int readTemperature(final JsonParser parser, final DeserializationContext context)
+			throws IOException {
+		if (parser.currentToken() != JsonToken.VALUE_NUMBER_INT) {
+			return (Integer) context.handleUnexpectedToken(int.class, parser);
+		}
+
+		return parser.getIntValue();
+	}
+
+	private static long readDate(final JsonParser parser, final DeserializationContext context) throws IOException {
+		if (parser.currentToken() != JsonToken.VALUE_STRING) {
+			return ForecastBatch
+					.toEpochMillis((LocalDateTime) context.handleUnexpectedToken(LocalDateTime.class, parser));
+		}
+
+		final char[] buffer = parser.getTextCharacters();
+		final int offset = parser.getTextOffset();
+
+		if (parser.getTextLength() != DATE_LENGTH || !matchesPattern(buffer, offset)) {
+			return ForecastBatch.toEpochMillis((LocalDateTime) context.handleWeirdStringValue(LocalDateTime.class,
+					parser.getText(), "expected the format yyyy-MM-dd'T'HH:mm:ss.SSS"));
+		}
+
+		final int hour = digits(buffer, offset + 11, 2);
+		final int minute = digits(buffer, offset + 14, 2);
+		final int second = digits(buffer, offset + 17, 2);
+
+		try {
+			if (hour > 23 || minute > 59 || second > 59) {
+				throw new DateTimeException("Invalid time " + hour + ':' + minute + ':' + second);
+			}
+
+			final long epochDay = LocalDate.of(digits(buffer, offset, 4), digits(buffer, offset + 5, 2),
+					digits(buffer, offset + 8, 2)).toEpochDay();
+
+			return ((epochDay * 24 + hour) * 60 + minute) * 60_000 + second * 1_000L + digits(buffer, offset + 20, 3);
+		} catch (final DateTimeException e) {
+			/* An invalid date or time like February 30 or 24:00 */
+			return ForecastBatch.toEpochMillis((LocalDateTime) context.handleWeirdStringValue(LocalDateTime.class,
+					parser.getText(), e.getMessage()));
+		}
+	}
+
+	private static byte readSummary(final JsonParser parser, final DeserializationContext context)
+			throws IOException {
+		if (parser.currentToken() != JsonToken.VALUE_STRING) {
+			final String summary = (String) context.handleUnexpectedToken(String.class, parser);
+
+			return summary == null ? SummaryDictionary.NO_SUMMARY
+					: code(summary.toCharArray(), 0, summary.length(), context);
+		}
+
+		return code(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength(), context);
+	}
+
+	private static byte code(final char[] buffer, final int offset, final int length,
+			final DeserializationContext context) throws IOException {
+		final byte code = SummaryDictionary.code(buffer, offset, length);
+
+		if (code == SummaryDictionary.FULL) {
+			throw context.weirdStringException(new String(buffer, offset, length), String.class,
+					"more than " + SummaryDictionary.CAPACITY + " distinct summaries");
+		}
+
+		return code;
+	}
+
+	/**
+	 * Checks the shape of a date: digits and the separators of {@code yyyy-MM-dd'T'HH:mm:ss.SSS} at their positions.
+	 */
+	private static boolean matchesPattern(final char[] buffer, final int offset) {
+		for (int i = 0; i < DATE_LENGTH; i++) {
+			final char c = buffer[offset + i];
+			final boolean valid = switch (i) {
+			case 4, 7 -> c == '-';
+			case 10 -> c == 'T';
+			case 13, 16 -> c == ':';
+			case 19 -> c == '.';
+			default -> c >= '0' && c <= '9';
+			};
+
+			if (!valid) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static int digits(final char[] buffer, final int start, final int length) {
+		int result = 0;
+
+		for (int i = start; i < start + length; i++) {
+			result = result * 10 + buffer[i] - '0';
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,107 @@
+package de.infoteam.model;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Writes a {@link ForecastBatch} from its columns as {@code JSON} array of forecast objects, in the same shape as an
+ * array of {@link WeatherForecast} records: dates in the format {@code yyyy-MM-dd'T'HH:mm:ss.SSS}, missing values
+ * omitted.
+ * 
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.1
+ *
+ */
+class ForecastBatchSerializer extends StdSerializer<ForecastBatch> {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final long MILLIS_PER_DAY = 86_400_000L;
+
+	ForecastBatchSerializer() {
+		super(ForecastBatch.class);
+	}
+
+	@Override
+	public void serialize(final ForecastBatch batch, final JsonGenerator generator, final SerializerProvider provider)
+			throws IOException {
+		final char[] date = new char[23];
+		final int size = batch.size();
+
+		generator.writeStartArray(batch, size);
+
+		for (int i = 0; i < size; i++) {
+			generator.writeStartObject();
+
+			if (batch.epochMillis[i] != ForecastBatch.NO_DATE) {
+				generator.writeFieldName("date");
+
+				if (format(batch.epochMillis[i], date)) {
+					generator.writeString(date, 0, date.length);
+				} else {
+					generator.writeString(ForecastBatch.toDate(batch.epochMillis[i]).toString());
+				}
+			}
+
+			if (batch.temperaturesC[i] != ForecastBatch.NO_TEMPERATURE) {
+				generator.writeNumberField("temperatureC", batch.temperaturesC[i]);
+			}
+
+			if (batch.temperaturesF[i] != ForecastBatch.NO_TEMPERATURE) {
+				generator.writeNumberField("temperatureF", batch.temperaturesF[i]);
+			}
+
+			if (batch.summaryCodes[i] != SummaryDictionary.NO_SUMMARY) {
+				generator.writeStringField("summary", SummaryDictionary.summary(batch.summaryCodes[i]));
+			}
+
+			generator.writeEndObject();
+		}
+
+		generator.writeEndArray();
+	}
+
+	/**
+	 * Formats a date into the buffer.
+	 * 
+	 * @return {@code false} if the year has not exactly 4 digits, the buffer is left untouched then
+	 */
+	private static boolean format(final long epochMillis, final char[] target) {
+		final LocalDate day = LocalDate.ofEpochDay(Math.floorDiv(epochMillis, MILLIS_PER_DAY));
+		final int millisOfDay = (int) Math.floorMod(epochMillis, MILLIS_PER_DAY);
+
+		if (day.getYear() < 0 || day.getYear() > 9_999) {
+			return false;
+		}
+
+		digits(day.getYear(), target, 0, 4);
+		target[4] = '-';
+		digits(day.getMonthValue(), target, 5, 2);
+		target[7] = '-';
+		digits(day.getDayOfMonth(), target, 8, 2);
+		target[10] = 'T';
+		digits(millisOfDay / 3_600_000, target, 11, 2);
+		target[13] = ':';
+		digits(millisOfDay / 60_000 % 60, target, 14, 2);
+		target[16] = ':';
+		digits(millisOfDay / 1_000 % 60, target, 17, 2);
+		target[19] = '.';
+		digits(millisOfDay % 1_000, target, 20, 3);
+
+		return true;
+	}
+
+	private static void digits(final int value, final char[] target, final int start, final int length) {
+		int remaining = value;
+
+		for (int i = start + length - 1; i >= start; i--) {
+			target[i] = (char) ('0' + remaining % 10);
+			remaining /= 10;
+		}
+	}
+}
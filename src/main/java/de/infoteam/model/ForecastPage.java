@@ -0,0 +1,25 @@
+package de.infoteam.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * The DTO for a page of a date range query on the stored {@link WeatherForecast} items.
+ * 
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.0
+ * 
+ * @param forecasts  the {@link WeatherForecast} items of the page in ascending date order, must not be {@code null}
+ * @param nextCursor the cursor for the next page, i.e. the date of the page's last item; {@code null} if there are no
+ *                   more items in the queried range
+ *
+ */
+public record ForecastPage(@NotNull List<WeatherForecast> forecasts,
+		@JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS") LocalDateTime nextCursor) {
+	/* Simple record, nothing to implement here */
+}
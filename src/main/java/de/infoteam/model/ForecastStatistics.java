@@ -0,0 +1,55 @@
+package de.infoteam.model;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import javax.validation.constraints.NotNull;
+
+/**
+ * The DTO for the temperature statistics of the stored {@link WeatherForecast} items, per day and per summary.
+ * 
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.0
+ * 
+ * @param days      the statistics per day of the forecasts' dates in ascending order, must not be {@code null}
+ * @param summaries the statistics per summary text, must not be {@code null}
+ *
+ */
+public record ForecastStatistics(@NotNull Map<LocalDate, TemperatureStatistics> days,
+		@NotNull Map<String, TemperatureStatistics> summaries) {
+
+	/**
+	 * The record representing the statistics of a group of forecasts as part of the {@link ForecastStatistics} DTO.
+	 * 
+	 * @author Dirk Weissmann
+	 * @since 2026-10-18
+	 * @version 1.0
+	 * 
+	 * @param count        the number of forecasts, positive
+	 * @param temperatureC the statistics of the temperatures in Celsius, must not be {@code null}
+	 * @param temperatureF the statistics of the temperatures in Fahrenheit, must not be {@code null}
+	 *
+	 */
+	public static record TemperatureStatistics(int count, @NotNull Aggregate temperatureC,
+			@NotNull Aggregate temperatureF) {
+		/* Nothing special in this record */
+	}
+
+	/**
+	 * The record representing the minimum, maximum and mean of a temperature as part of the
+	 * {@link TemperatureStatistics}.
+	 * 
+	 * @author Dirk Weissmann
+	 * @since 2026-10-18
+	 * @version 1.0
+	 * 
+	 * @param min  the lowest temperature
+	 * @param max  the highest temperature
+	 * @param mean the arithmetic mean of the temperatures
+	 *
+	 */
+	public static record Aggregate(int min, int max, double mean) {
+		/* Nothing special in this record */
+	}
+}
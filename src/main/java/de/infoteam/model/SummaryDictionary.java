@@ -0,0 +1,107 @@
+package de.infoteam.model;
+
+import java.util.Arrays;
+
+/**
+ * The dictionary of the forecast summaries, shared by all {@link ForecastBatch}es and the forecast store: a summary is
+ * kept as {@code byte} code, which is the same in every batch and in the store, so items are copied between them
+ * without looking up their summaries again.
+ * <p>
+ * The dictionary starts with the .NET service's fixed vocabulary and learns other summaries while batches are decoded.
+ * It only grows, up to {@value #CAPACITY} summaries. Lookups read the current array without locking; only a new
+ * summary is added under a lock.
+ *
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.0
+ *
+ */
+public final class SummaryDictionary {
+
+	/** The code of a missing summary */
+	public static final byte NO_SUMMARY = -1;
+
+	/** The code returned by {@link #code(char[], int, int)} for a new summary if the dictionary is full */
+	static final byte FULL = -2;
+
+	/** The maximum number of summaries */
+	static final int CAPACITY = Byte.MAX_VALUE + 1;
+
+	/* The summaries of the .NET service's weather forecast template */
+	private static final String[] VOCABULARY = { "Freezing", "Bracing", "Chilly", "Cool", "Mild", "Warm", "Balmy",
+			"Hot", "Sweltering", "Scorching" };
+
+	private static volatile String[] summaries = VOCABULARY;
+
+	private SummaryDictionary() {
+		/* Only static lookups */
+	}
+
+	/**
+	 * Provides the summary of a code.
+	 *
+	 * @param code the code of a summary, or {@link #NO_SUMMARY}
+	 *
+	 * @return the summary, {@code null} for {@link #NO_SUMMARY}
+	 */
+	public static String summary(final byte code) {
+		return code == NO_SUMMARY ? null : summaries[code];
+	}
+
+	/**
+	 * Looks up the code of a summary, adding it to the dictionary if it is not yet known. The summary is given as range
+	 * of a character buffer, so that no {@link String} is created for a known one.
+	 *
+	 * @return the code, or {@link #FULL} if the summary is new and the dictionary is full
+	 */
+	static byte code(final char[] buffer, final int offset, final int length) {
+		final byte known = find(summaries, buffer, offset, length);
+
+		return known == NO_SUMMARY ? add(buffer, offset, length) : known;
+	}
+
+	private static synchronized byte add(final char[] buffer, final int offset, final int length) {
+		final String[] current = summaries;
+		final byte known = find(current, buffer, offset, length);
+
+		if (known != NO_SUMMARY) {
+			/* Added by a concurrent decoder in the meantime */
+			return known;
+		}
+
+		if (current.length == CAPACITY) {
+			return FULL;
+		}
+
+		final String[] grown = Arrays.copyOf(current, current.length + 1);
+
+		grown[current.length] = new String(buffer, offset, length);
+		summaries = grown;
+
+		return (byte) current.length;
+	}
+
+	private static byte find(final String[] words, final char[] buffer, final int offset, final int length) {
+		for (int code = 0; code < words.length; code++) {
+			if (matches(words[code], buffer, offset, length)) {
+				return (byte) code;
+			}
+		}
+
+		return NO_SUMMARY;
+	}
+
+	private static boolean matches(final String word, final char[] buffer, final int offset, final int length) {
+		if (word.length() != length) {
+			return false;
+		}
+
+		for (int i = 0; i < length; i++) {
+			if (word.charAt(i) != buffer[offset + i]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
@@ -0,0 +1,263 @@
+package de.infoteam.resilience;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * An adaptive limit for the number of concurrent calls to the {@code .NET} service, shared by all 3 client variants.
+ * Instead of a fixed pool size the limit follows the observed round trip times (RTT) with a gradient algorithm:
+ * <ul>
+ * <li>A long-term RTT average serves as the baseline of an unloaded upstream</li>
+ * <li>Each sample RTT is compared to that baseline; if the upstream gets slower (queuing) the limit shrinks</li>
+ * <li>If the upstream keeps up, the limit grows by its square root (the tolerated queue size)</li>
+ * <li>Dropped calls (connection errors, {@code 429}, {@code 503}, {@code 504}) decrease the limit multiplicatively</li>
+ * </ul>
+ * Calls above the limit wait a short, configurable time for a free slot and are rejected with a
+ * {@link ConcurrencyLimitExceededException} afterwards.
+ * <p>
+ * The current limit, the number of calls in flight and the RTT estimates are published as Micrometer gauges.
+ *
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.0
+ *
+ * @see <a href="https://github.com/Netflix/concurrency-limits">Netflix concurrency limits</a>
+ *
+ */
+@Component
+@Log4j2
+public class AdaptiveConcurrencyLimiter {
+
+	/* Factor for the multiplicative decrease in case of a dropped call */
+	private static final double BACKOFF_RATIO = 0.9;
+
+	/* The sample RTT may exceed the long-term RTT by this factor before the limit is reduced */
+	private static final double RTT_TOLERANCE = 1.5;
+
+	/* Number of samples the long-term RTT average roughly covers */
+	private static final int LONG_RTT_WINDOW = 100;
+
+	private final int minLimit;
+	private final int maxLimit;
+	private final double smoothing;
+	private final long maxQueueWaitNanos;
+
+	private final Counter rejections;
+
+	private double limit;
+	private int inFlight;
+	private double longRttNanos;
+	private long lastRttNanos;
+
+	/**
+	 * Creates the limiter and registers its gauges.
+	 *
+	 * @param initialLimit the limit to start with, must be between {@code minLimit} and {@code maxLimit}
+	 * @param minLimit     the lower bound of the limit, must be positive
+	 * @param maxLimit     the upper bound of the limit, must not be smaller than {@code minLimit}
+	 * @param smoothing    the weight of a new limit estimate (between {@code 0} and {@code 1})
+	 * @param maxQueueWait the maximum time a call waits for a free slot, must not be {@code null}
+	 * @param registry     the {@link MeterRegistry} for publishing the metrics, must not be {@code null}
+	 */
+	public AdaptiveConcurrencyLimiter(@Value("${doch.net.client.concurrency.initial-limit:20}") final int initialLimit,
+			@Value("${doch.net.client.concurrency.min-limit:4}") final int minLimit,
+			@Value("${doch.net.client.concurrency.max-limit:200}") final int maxLimit,
+			@Value("${doch.net.client.concurrency.smoothing:0.2}") final double smoothing,
+			@Value("${doch.net.client.concurrency.max-queue-wait:50ms}") final Duration maxQueueWait,
+			final MeterRegistry registry) {
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.smoothing = smoothing;
+		this.maxQueueWaitNanos = maxQueueWait.toNanos();
+		this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+
+		Gauge.builder("dochnet.client.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+				.description("The current adaptive limit of concurrent calls to the .NET service").register(registry);
+		Gauge.builder("dochnet.client.concurrency.inflight", this, AdaptiveConcurrencyLimiter::getInFlight)
+				.description("The number of calls to the .NET service currently in flight").register(registry);
+		TimeGauge.builder("dochnet.client.rtt.long", this, TimeUnit.NANOSECONDS,
+				AdaptiveConcurrencyLimiter::getLongRttNanos)
+				.description("The long-term average round trip time to the .NET service").register(registry);
+		TimeGauge.builder("dochnet.client.rtt.last", this, TimeUnit.NANOSECONDS,
+				AdaptiveConcurrencyLimiter::getLastRttNanos)
+				.description("The most recently observed round trip time to the .NET service").register(registry);
+
+		rejections = Counter.builder("dochnet.client.concurrency.rejected")
+				.description("Calls to the .NET service rejected due to the concurrency limit").register(registry);
+	}
+
+	/**
+	 * Takes a slot without waiting.
+	 *
+	 * @return the {@link Permit} for the call or an empty {@link Optional} if the limit is reached, never {@code null}
+	 */
+	public synchronized Optional<Permit> tryAcquire() {
+		if (inFlight >= (int) limit) {
+			return Optional.empty();
+		}
+
+		return Optional.of(new Permit(++inFlight));
+	}
+
+	/**
+	 * Takes a slot, waiting at most the configured queue time for a free one. May block the calling thread.
+	 *
+	 * @return the {@link Permit} for the call, never {@code null}
+	 *
+	 * @throws ConcurrencyLimitExceededException if no slot got free in time
+	 */
+	public synchronized Permit acquire() {
+		final long deadline = System.nanoTime() + maxQueueWaitNanos;
+
+		try {
+			for (long remaining = maxQueueWaitNanos; inFlight >= (int) limit;
+					remaining = deadline - System.nanoTime()) {
+				if (remaining <= 0) {
+					rejections.increment();
+
+					throw new ConcurrencyLimitExceededException((int) limit);
+				}
+
+				TimeUnit.NANOSECONDS.timedWait(this, remaining);
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			rejections.increment();
+
+			throw new ConcurrencyLimitExceededException((int) limit);
+		}
+
+		return new Permit(++inFlight);
+	}
+
+	/**
+	 * Adjusts the limit on a finished call's sample and wakes up waiting callers.
+	 *
+	 * @param rttNanos        the call's round trip time in nanoseconds
+	 * @param inFlightAtStart the number of calls in flight when the call started
+	 * @param dropped         {@code true} if the call indicated an overloaded or unreachable upstream
+	 */
+	private synchronized void onSample(final long rttNanos, final int inFlightAtStart, final boolean dropped) {
+		inFlight--;
+		lastRttNanos = rttNanos;
+
+		final double estimate;
+
+		if (dropped) {
+			estimate = limit * BACKOFF_RATIO;
+		} else {
+			longRttNanos = longRttNanos == 0 ? rttNanos : longRttNanos + (rttNanos - longRttNanos) / LONG_RTT_WINDOW;
+
+			/* The calls did not use the limit: the sample says nothing about the upstream's capacity */
+			if (inFlightAtStart * 2 < limit) {
+				notifyAll();
+				return;
+			}
+
+			final double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRttNanos / rttNanos));
+
+			estimate = limit * gradient + Math.sqrt(limit);
+		}
+
+		limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - smoothing) + estimate * smoothing));
+
+		log.trace("Concurrency limit {} after RTT {} ns (dropped: {})", limit, rttNanos, dropped);
+
+		notifyAll();
+	}
+
+	/**
+	 * Releases a slot without taking the call into account for the limit (e.g. a cancelled call).
+	 */
+	private synchronized void onIgnore() {
+		inFlight--;
+		notifyAll();
+	}
+
+	private synchronized double getLimit() {
+		return limit;
+	}
+
+	private synchronized int getInFlight() {
+		return inFlight;
+	}
+
+	private synchronized double getLongRttNanos() {
+		return longRttNanos;
+	}
+
+	private synchronized double getLastRttNanos() {
+		return lastRttNanos;
+	}
+
+	/**
+	 * A taken slot of the {@link AdaptiveConcurrencyLimiter}. Exactly one of the release methods has to be called when
+	 * the call is finished, further calls are ignored.
+	 *
+	 * @author Dirk Weissmann
+	 * @since 2026-10-18
+	 * @version 1.0
+	 *
+	 */
+	public final class Permit {
+
+		private final long startNanos = System.nanoTime();
+		private final int inFlightAtStart;
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private Permit(final int inFlightAtStart) {
+			this.inFlightAtStart = inFlightAtStart;
+		}
+
+		/**
+		 * Releases the slot after a successful call, the RTT is taken into account for the limit.
+		 */
+		public void onSuccess() {
+			if (released.compareAndSet(false, true)) {
+				onSample(System.nanoTime() - startNanos, inFlightAtStart, false);
+			}
+		}
+
+		/**
+		 * Releases the slot after a call that failed due to an overloaded or unreachable upstream.
+		 */
+		public void onDropped() {
+			if (released.compareAndSet(false, true)) {
+				onSample(System.nanoTime() - startNanos, inFlightAtStart, true);
+			}
+		}
+
+		/**
+		 * Releases the slot without any influence on the limit.
+		 */
+		public void onIgnore() {
+			if (released.compareAndSet(false, true)) {
+				AdaptiveConcurrencyLimiter.this.onIgnore();
+			}
+		}
+
+		/**
+		 * Releases the slot according to the upstream's {@code HTTP} status code.
+		 *
+		 * @param statusCode the raw status code of the .NET service's response
+		 */
+		public void onResponse(final int statusCode) {
+			if (statusCode == 429 || statusCode == 503 || statusCode == 504) {
+				onDropped();
+			} else {
+				onSuccess();
+			}
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package de.infoteam.resilience;
+
+/**
+ * Thrown if a call to the {@code .NET} service is rejected because the {@link AdaptiveConcurrencyLimiter}'s limit is
+ * reached and no slot got free within the queue time.
+ *
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.0
+ *
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Creates the exception with a message containing the current limit.
+	 *
+	 * @param limit the limit of concurrent calls at the time of the rejection
+	 */
+	public ConcurrencyLimitExceededException(final int limit) {
+		super("Too many concurrent calls to the .NET service (limit: " + limit + ")");
+	}
+}
@@ -0,0 +1,45 @@
+package de.infoteam.resilience;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import de.infoteam.resilience.AdaptiveConcurrencyLimiter.Permit;
+import de.infoteam.timing.RequestTimings;
+import de.infoteam.timing.RequestTimings.Phase;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Applies the {@link AdaptiveConcurrencyLimiter} to the calls of a {@link WebClient}. The RTT is measured until the
+ * response's status and headers are received.
+ * <p>
+ * If the limit is reached, the waiting for a free slot is moved to a worker thread so that an event loop is never
+ * blocked. That waiting is recorded as {@link Phase#QUEUE} of the {@link RequestTimings} in the Reactor context.
+ *
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.1
+ *
+ */
+@RequiredArgsConstructor
+public class ConcurrencyLimitingExchangeFilter implements ExchangeFilterFunction {
+
+	private final AdaptiveConcurrencyLimiter limiter;
+
+	@Override
+	public Mono<ClientResponse> filter(final ClientRequest request, final ExchangeFunction next) {
+		return Mono.deferContextual(context -> limiter.tryAcquire().map(Mono::just).orElseGet(() -> {
+			final long queueStart = System.nanoTime();
+
+			return Mono.fromCallable(limiter::acquire).subscribeOn(Schedulers.boundedElastic())
+					.doFinally(signal -> RequestTimings.from(context)
+							.ifPresent(timings -> timings.add(Phase.QUEUE, System.nanoTime() - queueStart)));
+		})).flatMap((final Permit permit) -> next.exchange(request)
+				.doOnNext((final ClientResponse response) -> permit.onResponse(response.rawStatusCode()))
+				.doOnError(e -> permit.onDropped()).doFinally(signal -> permit.onIgnore()));
+	}
+}
@@ -0,0 +1,57 @@
+package de.infoteam.resilience;
+
+import java.io.IOException;
+
+import org.springframework.cloud.openfeign.FeignClient;
+
+import de.infoteam.resilience.AdaptiveConcurrencyLimiter.Permit;
+import de.infoteam.timing.RequestTimings;
+import de.infoteam.timing.RequestTimings.Phase;
+import feign.Client;
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Applies the {@link AdaptiveConcurrencyLimiter} to the calls of a {@link FeignClient} by decorating its transport
+ * {@link Client}. The RTT is measured until the response's status and headers are received. The waiting for a slot
+ * is recorded as {@link Phase#QUEUE}.
+ *
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.1
+ *
+ */
+@RequiredArgsConstructor
+public class ConcurrencyLimitingFeignClient implements Client {
+
+	private final Client delegate;
+	private final AdaptiveConcurrencyLimiter limiter;
+
+	@Override
+	public Response execute(final Request request, final Options options) throws IOException {
+		final long queueStart = System.nanoTime();
+		final Permit permit;
+
+		try {
+			permit = limiter.acquire();
+		} finally {
+			RequestTimings.addCurrent(Phase.QUEUE, System.nanoTime() - queueStart);
+		}
+
+		try {
+			final Response response = delegate.execute(request, options);
+
+			permit.onResponse(response.status());
+
+			return response;
+		} catch (final IOException e) {
+			permit.onDropped();
+
+			throw e;
+		} finally {
+			permit.onIgnore();
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package de.infoteam.resilience;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.RestTemplate;
+
+import de.infoteam.resilience.AdaptiveConcurrencyLimiter.Permit;
+import de.infoteam.timing.RequestTimings;
+import de.infoteam.timing.RequestTimings.Phase;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Applies the {@link AdaptiveConcurrencyLimiter} to the calls of a {@link RestTemplate}. The RTT is measured until the
+ * response's status and headers are received. The waiting for a slot is recorded as {@link Phase#QUEUE}.
+ *
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.1
+ *
+ */
+@RequiredArgsConstructor
+public class ConcurrencyLimitingInterceptor implements ClientHttpRequestInterceptor {
+
+	private final AdaptiveConcurrencyLimiter limiter;
+
+	@Override
+	public ClientHttpResponse intercept(final HttpRequest request, final byte[] body,
+			final ClientHttpRequestExecution execution) throws IOException {
+		final long queueStart = System.nanoTime();
+		final Permit permit;
+
+		try {
+			permit = limiter.acquire();
+		} finally {
+			RequestTimings.addCurrent(Phase.QUEUE, System.nanoTime() - queueStart);
+		}
+
+		try {
+			final ClientHttpResponse response = execution.execute(request, body);
+
+			permit.onResponse(response.getRawStatusCode());
+
+			return response;
+		} catch (final IOException e) {
+			permit.onDropped();
+
+			throw e;
+		} finally {
+			permit.onIgnore();
+		}
+	}
+}
@@ -0,0 +1,203 @@
+package de.infoteam.resilience;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.http.NoHttpResponseException;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import de.infoteam.timing.RequestTimings;
+import de.infoteam.timing.RequestTimings.Phase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import reactor.netty.http.client.PrematureCloseException;
+
+/**
+ * The retry rules for the calls to the {@code .NET} service, shared by all 3 client variants:
+ * <ul>
+ * <li>Only idempotent requests are retried and only after failures to connect or to get a response on a connection the
+ * service closed, see {@link #isConnectFailure(Throwable)}; all other I/O errors and all error responses surface</li>
+ * <li>The waiting time between two attempts grows exponentially and is fully jittered, i.e. a random value between
+ * {@code 0} and the exponential cap</li>
+ * <li>All retries draw from a token bucket: each successful ({@code 2xx} or {@code 3xx}) call deposits a fraction of
+ * a token, each retry takes a whole one. During an outage the bucket runs dry and the failures surface immediately
+ * instead of multiplying the load</li>
+ * </ul>
+ * The retries, the denied retries and the used share of the budget are published as Micrometer metrics.
+ *
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.2
+ *
+ * @see <a href="https://aws.amazon.com/blogs/architecture/exponential-backoff-and-jitter/">Exponential Backoff And
+ *      Jitter</a>
+ *
+ */
+@Component
+@Log4j2
+public class RetryPolicy {
+
+	private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE", "TRACE");
+
+	/* Tolerance for the rounding errors of the summed up token fractions */
+	private static final double TOKEN_EPSILON = 1e-9;
+
+	private final int maxAttempts;
+	private final long baseBackoffMillis;
+	private final long maxBackoffMillis;
+	private final double budgetRatio;
+	private final double maxTokens;
+
+	private final Counter retries;
+	private final Counter deniedByBudget;
+	private final Counter deniedByAttempts;
+
+	private double tokens;
+
+	/**
+	 * Creates the policy with a full retry budget and registers its metrics.
+	 *
+	 * @param maxAttempts the maximum number of attempts per call including the first one, must be positive
+	 * @param baseBackoff the cap of the waiting time before the first retry, must not be {@code null}
+	 * @param maxBackoff  the upper bound of the waiting time before any retry, must not be {@code null}
+	 * @param budgetRatio the tokens a successful call deposits, i.e. the share of retries in relation to successful
+	 *                    calls
+	 * @param maxTokens   the capacity of the token bucket, i.e. the maximum burst of retries
+	 * @param registry    the {@link MeterRegistry} for publishing the metrics, must not be {@code null}
+	 */
+	public RetryPolicy(@Value("${doch.net.client.retry.max-attempts:3}") final int maxAttempts,
+			@Value("${doch.net.client.retry.base-backoff:50ms}") final Duration baseBackoff,
+			@Value("${doch.net.client.retry.max-backoff:1s}") final Duration maxBackoff,
+			@Value("${doch.net.client.retry.budget-ratio:0.1}") final double budgetRatio,
+			@Value("${doch.net.client.retry.budget-max-tokens:10}") final double maxTokens,
+			final MeterRegistry registry) {
+		this.maxAttempts = maxAttempts;
+		this.baseBackoffMillis = baseBackoff.toMillis();
+		this.maxBackoffMillis = maxBackoff.toMillis();
+		this.budgetRatio = budgetRatio;
+		this.maxTokens = maxTokens;
+		this.tokens = maxTokens;
+
+		retries = Counter.builder("dochnet.client.retry.attempts")
+				.description("Retried calls to the .NET service").register(registry);
+		deniedByBudget = Counter.builder("dochnet.client.retry.denied").tag("reason", "budget")
+				.description("Retries denied because the retry budget was used up").register(registry);
+		deniedByAttempts = Counter.builder("dochnet.client.retry.denied").tag("reason", "attempts")
+				.description("Retries denied because the maximum number of attempts was reached").register(registry);
+
+		Gauge.builder("dochnet.client.retry.budget.used", this, RetryPolicy::getBudgetUsed)
+				.description("The used share of the retry budget (0..1)").register(registry);
+	}
+
+	/**
+	 * Checks whether a request may be repeated at all.
+	 *
+	 * @param method the request's {@code HTTP} method name, must not be {@code null}
+	 *
+	 * @return {@code true} if the method is idempotent
+	 */
+	public boolean isRetryable(final String method) {
+		return IDEMPOTENT_METHODS.contains(method);
+	}
+
+	/**
+	 * Checks whether a failure of the Apache or the Reactor Netty transport may be retried: the connect was refused or
+	 * timed out, or the service closed the connection before sending any response. Other I/O errors, e.g. a read
+	 * timeout, are not retried, since the service may be processing the request already.
+	 *
+	 * @param failure the failure of an attempt, may be {@code null}
+	 *
+	 * @return {@code true} if the failure is retryable
+	 */
+	public static boolean isConnectFailure(final Throwable failure) {
+		/* Covers Apache's HttpHostConnectException and Netty's ConnectTimeoutException */
+		return failure instanceof ConnectException || failure instanceof ConnectTimeoutException
+				|| failure instanceof NoHttpResponseException || failure instanceof PrematureCloseException;
+	}
+
+	/**
+	 * Decides on a retry after a connect failure and takes a token from the budget if so.
+	 *
+	 * @param failedAttempts the number of attempts of the call that have failed so far, at least {@code 1}
+	 *
+	 * @return the time to wait before the next attempt or an empty {@link Optional} if the failure is to be surfaced,
+	 *         never {@code null}
+	 */
+	public Optional<Duration> nextBackoff(final int failedAttempts) {
+		if (failedAttempts >= maxAttempts) {
+			deniedByAttempts.increment();
+
+			return Optional.empty();
+		}
+
+		if (!withdrawToken()) {
+			deniedByBudget.increment();
+			log.debug("Retry budget used up, surfacing the failure of attempt {}", failedAttempts);
+
+			return Optional.empty();
+		}
+
+		retries.increment();
+
+		final long cap = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(failedAttempts - 1, 30));
+
+		return Optional.of(Duration.ofMillis(ThreadLocalRandom.current().nextLong(cap + 1)));
+	}
+
+	/**
+	 * Feeds the budget with a call that received a response; only a successful one deposits a token.
+	 *
+	 * @param statusCode the raw status code of the .NET service's response
+	 */
+	public void onResponse(final int statusCode) {
+		if (statusCode >= 200 && statusCode < 400) {
+			depositToken();
+		}
+	}
+
+	/**
+	 * A helper for the synchronous clients: Waits the given backoff time and records it for the current request's
+	 * {@link RequestTimings}.
+	 *
+	 * @param backoff the time to wait, must not be {@code null}
+	 *
+	 * @return {@code false} if the thread got interrupted and the retry has to be abandoned
+	 */
+	public static boolean sleep(final Duration backoff) {
+		try {
+			Thread.sleep(backoff.toMillis());
+			RequestTimings.addCurrent(Phase.RETRY, backoff.toNanos());
+
+			return true;
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+
+			return false;
+		}
+	}
+
+	private synchronized boolean withdrawToken() {
+		if (tokens < 1 - TOKEN_EPSILON) {
+			return false;
+		}
+
+		tokens = Math.max(0, tokens - 1);
+
+		return true;
+	}
+
+	private synchronized void depositToken() {
+		tokens = Math.min(maxTokens, tokens + budgetRatio);
+	}
+
+	private synchronized double getBudgetUsed() {
+		return 1 - tokens / maxTokens;
+	}
+}
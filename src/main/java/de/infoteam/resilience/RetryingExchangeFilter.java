@@ -0,0 +1,57 @@
+package de.infoteam.resilience;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import de.infoteam.timing.RequestTimings;
+import de.infoteam.timing.RequestTimings.Phase;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import reactor.util.retry.Retry.RetrySignal;
+
+/**
+ * Applies the {@link RetryPolicy} to the calls of a {@link WebClient}. Transport failures show up as
+ * {@link WebClientRequestException}s, only those caused by a failed connect are retried, see
+ * {@link RetryPolicy#isConnectFailure(Throwable)}; error responses of the .NET service are never retried. Each retry
+ * runs the filters after this one again, so a {@link ConcurrencyLimitingExchangeFilter} after it applies per attempt.
+ *
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.2
+ *
+ */
+@RequiredArgsConstructor
+public class RetryingExchangeFilter implements ExchangeFilterFunction {
+
+	private final RetryPolicy policy;
+
+	@Override
+	public Mono<ClientResponse> filter(final ClientRequest request, final ExchangeFunction next) {
+		final Mono<ClientResponse> exchange = Mono.defer(() -> next.exchange(request))
+				.doOnNext((final ClientResponse response) -> policy.onResponse(response.rawStatusCode()));
+
+		if (!policy.isRetryable(request.method().name())) {
+			return exchange;
+		}
+
+		return exchange.retryWhen(Retry.from(signals -> signals.concatMap((final RetrySignal signal) -> {
+			final Throwable failure = signal.failure();
+
+			if (!(failure instanceof WebClientRequestException) || !RetryPolicy.isConnectFailure(failure.getCause())) {
+				return Mono.error(failure);
+			}
+
+			return policy.nextBackoff((int) signal.totalRetries() + 1)
+					.map(backoff -> Mono.deferContextual(context -> {
+						RequestTimings.from(context).ifPresent(timings -> timings.add(Phase.RETRY, backoff));
+
+						return Mono.delay(backoff);
+					})).orElseGet(() -> Mono.error(failure));
+		})));
+	}
+}
@@ -0,0 +1,57 @@
+package de.infoteam.resilience;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.cloud.openfeign.FeignClient;
+
+import feign.Client;
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import feign.RetryableException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Applies the {@link RetryPolicy} to the calls of a {@link FeignClient} by decorating its transport {@link Client}.
+ * Only the {@link IOException}s of failed connects are retried, see {@link RetryPolicy#isConnectFailure(Throwable)}
+ * ({@code Feign} turns them into a {@link RetryableException} once the retries are given up); error responses of the
+ * .NET service are never retried.
+ * Each attempt runs through the decorated {@link Client}, so a {@link ConcurrencyLimitingFeignClient} inside applies
+ * per attempt.
+ *
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.2
+ *
+ */
+@RequiredArgsConstructor
+public class RetryingFeignClient implements Client {
+
+	private final Client delegate;
+	private final RetryPolicy policy;
+
+	@Override
+	public Response execute(final Request request, final Options options) throws IOException {
+		final boolean retryable = policy.isRetryable(request.httpMethod().name());
+
+		for (int attempt = 1;; attempt++) {
+			try {
+				final Response response = delegate.execute(request, options);
+
+				policy.onResponse(response.status());
+
+				return response;
+			} catch (final IOException e) {
+				final Optional<Duration> backoff = retryable && RetryPolicy.isConnectFailure(e)
+						? policy.nextBackoff(attempt)
+						: Optional.empty();
+
+				if (backoff.isEmpty() || !RetryPolicy.sleep(backoff.get())) {
+					throw e;
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package de.infoteam.resilience;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.RestTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Applies the {@link RetryPolicy} to the calls of a {@link RestTemplate}. Only the {@link IOException}s of failed
+ * connects are retried, see {@link RetryPolicy#isConnectFailure(Throwable)}; error responses of the .NET service are
+ * never retried.
+ * <p>
+ * Each attempt runs through the given interceptor, e.g. a {@link ConcurrencyLimitingInterceptor}, so that it applies
+ * per attempt. Interceptors after this one in the {@link RestTemplate} would be skipped by the retries, since the
+ * interceptor chain of a request can only be run once; hence <em>it must be the last interceptor.</em>
+ *
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.2
+ *
+ */
+@RequiredArgsConstructor
+public class RetryingInterceptor implements ClientHttpRequestInterceptor {
+
+	private final RetryPolicy policy;
+	private final ClientHttpRequestInterceptor perAttempt;
+
+	@Override
+	public ClientHttpResponse intercept(final HttpRequest request, final byte[] body,
+			final ClientHttpRequestExecution execution) throws IOException {
+		final boolean retryable = policy.isRetryable(request.getMethodValue());
+
+		for (int attempt = 1;; attempt++) {
+			try {
+				final ClientHttpResponse response = perAttempt.intercept(request, body, execution);
+
+				policy.onResponse(response.getRawStatusCode());
+
+				return response;
+			} catch (final IOException e) {
+				final Optional<Duration> backoff = retryable && RetryPolicy.isConnectFailure(e)
+						? policy.nextBackoff(attempt)
+						: Optional.empty();
+
+				if (backoff.isEmpty() || !RetryPolicy.sleep(backoff.get())) {
+					throw e;
+				}
+			}
+		}
+	}
+}
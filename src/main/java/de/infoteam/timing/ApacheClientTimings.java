@@ -0,0 +1,274 @@
+package de.infoteam.timing;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.UnknownHostException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.client.RestTemplate;
+
+import de.infoteam.timing.RequestTimings.Phase;
+
+/**
+ * The hooks recording the {@link RequestTimings} of the calls with Apache's {@code HttpClient}, which is the transport
+ * of the {@link RestTemplate} and the {@link FeignClient}. These calls are executed on the request's thread, so the
+ * hooks find the timings as request attribute:
+ * <ul>
+ * <li>The {@link DnsResolver} measures the name resolution</li>
+ * <li>The socket factories measure the TCP connect and the TLS handshake as separate intervals</li>
+ * <li>The connection manager measures the wait for a pooled connection</li>
+ * <li>The {@link HttpRequestExecutor} measures the time to first byte on the leased connection</li>
+ * <li>A response interceptor wraps the body of a sampled request, so that the time spent reading it is measured as
+ * download and can be told apart from the decoding, which reads the body as stream</li>
+ * </ul>
+ *
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.1
+ *
+ */
+public final class ApacheClientTimings {
+
+	/* The start of a TCP connect whose TLS handshake has not started yet */
+	private static final String CONNECT_START = ApacheClientTimings.class.getName() + ".connectStart";
+
+	private ApacheClientTimings() {
+		/* Only static hooks */
+	}
+
+	/**
+	 * Creates a connection manager for {@code HTTP} and {@code HTTPS} with the name resolution, connect, TLS and pool
+	 * timing hooks.
+	 *
+	 * @param sslContext the {@link SSLContext} for the {@code HTTPS} connections, must not be {@code null}
+	 * @param verifier   the {@link HostnameVerifier} for the {@code HTTPS} connections, must not be {@code null}
+	 *
+	 * @return the connection manager, never {@code null}
+	 */
+	public static PoolingHttpClientConnectionManager connectionManager(final SSLContext sslContext,
+			final HostnameVerifier verifier) {
+		return new TimingConnectionManager(RegistryBuilder.<ConnectionSocketFactory>create()
+				.register("http", new TimingPlainSocketFactory())
+				.register("https", new TimingSslSocketFactory(sslContext, verifier)).build());
+	}
+
+	/**
+	 * Adds the time to first byte and download timing hooks to an {@link HttpClientBuilder}.
+	 *
+	 * @param builder the {@link HttpClientBuilder} to instrument, must not be {@code null}
+	 *
+	 * @return the given {@link HttpClientBuilder}, never {@code null}
+	 */
+	public static HttpClientBuilder instrument(final HttpClientBuilder builder) {
+		return builder.setRequestExecutor(new TimingRequestExecutor()).addInterceptorLast(new DownloadInterceptor());
+	}
+
+	private static final class TimingConnectionManager extends PoolingHttpClientConnectionManager {
+
+		private TimingConnectionManager(final Registry<ConnectionSocketFactory> registry) {
+			super(registry, new TimingDnsResolver());
+		}
+
+		@Override
+		public ConnectionRequest requestConnection(final HttpRoute route, final Object state) {
+			final ConnectionRequest request = super.requestConnection(route, state);
+
+			return new ConnectionRequest() {
+
+				@Override
+				public HttpClientConnection get(final long timeout, final TimeUnit unit)
+						throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+					final long start = System.nanoTime();
+
+					try {
+						return request.get(timeout, unit);
+					} finally {
+						RequestTimings.addCurrent(Phase.POOL, System.nanoTime() - start);
+					}
+				}
+
+				@Override
+				public boolean cancel() {
+					return request.cancel();
+				}
+			};
+		}
+	}
+
+	private static final class TimingDnsResolver implements DnsResolver {
+
+		@Override
+		public InetAddress[] resolve(final String host) throws UnknownHostException {
+			final long start = System.nanoTime();
+
+			try {
+				return SystemDefaultDnsResolver.INSTANCE.resolve(host);
+			} finally {
+				RequestTimings.addCurrent(Phase.DNS, System.nanoTime() - start);
+			}
+		}
+	}
+
+	private static final class TimingPlainSocketFactory extends PlainConnectionSocketFactory {
+
+		@Override
+		public Socket connectSocket(final int connectTimeout, final Socket socket, final HttpHost host,
+				final InetSocketAddress remoteAddress, final InetSocketAddress localAddress, final HttpContext context)
+				throws IOException {
+			final long start = System.nanoTime();
+
+			try {
+				return super.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+			} finally {
+				RequestTimings.addCurrent(Phase.CONNECT, System.nanoTime() - start);
+			}
+		}
+	}
+
+	/**
+	 * The socket factory measuring the connect and the TLS handshake. The handshake is part of
+	 * {@link #connectSocket(int, Socket, HttpHost, InetSocketAddress, InetSocketAddress, HttpContext)}, so the connect
+	 * ends where the handshake starts: the start of the connect is passed on in the {@link HttpContext}.
+	 */
+	private static final class TimingSslSocketFactory extends SSLConnectionSocketFactory {
+
+		private TimingSslSocketFactory(final SSLContext sslContext, final HostnameVerifier verifier) {
+			super(sslContext, verifier);
+		}
+
+		@Override
+		public Socket connectSocket(final int connectTimeout, final Socket socket, final HttpHost host,
+				final InetSocketAddress remoteAddress, final InetSocketAddress localAddress, final HttpContext context)
+				throws IOException {
+			final long start = System.nanoTime();
+
+			context.setAttribute(CONNECT_START, start);
+
+			try {
+				return super.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+			} finally {
+				/* Still set if no handshake started, e.g. because the connect failed */
+				if (context.removeAttribute(CONNECT_START) != null) {
+					RequestTimings.addCurrent(Phase.CONNECT, System.nanoTime() - start);
+				}
+			}
+		}
+
+		@Override
+		public Socket createLayeredSocket(final Socket socket, final String target, final int port,
+				final HttpContext context) throws IOException {
+			final long start = System.nanoTime();
+
+			if (context.removeAttribute(CONNECT_START) instanceof Long connectStart) {
+				RequestTimings.addCurrent(Phase.CONNECT, start - connectStart);
+			}
+
+			try {
+				return super.createLayeredSocket(socket, target, port, context);
+			} finally {
+				RequestTimings.addCurrent(Phase.TLS, System.nanoTime() - start);
+			}
+		}
+	}
+
+	private static final class TimingRequestExecutor extends HttpRequestExecutor {
+
+		@Override
+		public HttpResponse execute(final HttpRequest request, final HttpClientConnection connection,
+				final HttpContext context) throws IOException, HttpException {
+			final long start = System.nanoTime();
+
+			try {
+				return super.execute(request, connection, context);
+			} finally {
+				RequestTimings.addCurrent(Phase.UPSTREAM, System.nanoTime() - start);
+			}
+		}
+	}
+
+	private static final class DownloadInterceptor implements HttpResponseInterceptor {
+
+		@Override
+		public void process(final HttpResponse response, final HttpContext context) throws IOException {
+			final Optional<RequestTimings> timings = RequestTimings.current();
+			final HttpEntity entity = response.getEntity();
+
+			if (timings.isPresent() && entity != null && entity.isStreaming()) {
+				response.setEntity(new TimedEntity(entity, timings.get()));
+			}
+		}
+	}
+
+	/**
+	 * The response body adding the time of each read to the download.
+	 */
+	private static final class TimedEntity extends HttpEntityWrapper {
+
+		private final RequestTimings timings;
+
+		private TimedEntity(final HttpEntity entity, final RequestTimings timings) {
+			super(entity);
+			this.timings = timings;
+		}
+
+		@Override
+		public InputStream getContent() throws IOException {
+			return new FilterInputStream(super.getContent()) {
+
+				@Override
+				public int read() throws IOException {
+					final long start = System.nanoTime();
+
+					try {
+						return super.read();
+					} finally {
+						timings.add(Phase.DOWNLOAD, System.nanoTime() - start);
+					}
+				}
+
+				@Override
+				public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+					final long start = System.nanoTime();
+
+					try {
+						return super.read(buffer, offset, length);
+					} finally {
+						timings.add(Phase.DOWNLOAD, System.nanoTime() - start);
+					}
+				}
+			};
+		}
+	}
+}
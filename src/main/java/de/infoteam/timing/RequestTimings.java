@@ -0,0 +1,237 @@
+package de.infoteam.timing;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import reactor.util.context.ContextView;
+
+/**
+ * The latency breakdown of a single (sampled) request to this service into the phases of the call to the {@code .NET}
+ * service. The phases are recorded by hooks in the different client stacks; a phase that occurs several times (e.g.
+ * on retries) is summed up.
+ * <p>
+ * Besides measuring a phase directly, the time can be attributed with <i>laps</i>: {@link #lap(Phase)} adds the time
+ * since the last {@link #mark()} to a phase, minus the time other phases recorded meanwhile. This way the time that no
+ * hook can measure directly (e.g. the decoding that is interleaved with the body download) is attributed exactly
+ * once.
+ * <p>
+ * The timings of the current request are found as request attribute on the request's thread and in the Reactor
+ * {@link ContextView} of the {@code WebClient} calls.
+ *
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.1
+ *
+ */
+public final class RequestTimings {
+
+	private static final String ATTRIBUTE = RequestTimings.class.getName();
+
+	private final long startNanos = System.nanoTime();
+	private final AtomicLongArray phaseNanos = new AtomicLongArray(Phase.values().length);
+
+	private long lapStartNanos = startNanos;
+	private long lapRecordedNanos;
+
+	/**
+	 * The phases of a call to the {@code .NET} service.
+	 *
+	 * @author Dirk Weissmann
+	 * @since 2026-10-18
+	 * @version 1.1
+	 *
+	 */
+	public enum Phase {
+		/** Waiting for a slot of the adaptive concurrency limit */
+		QUEUE,
+		/** Resolving the host name of the .NET service */
+		DNS,
+		/** Establishing the TCP connection */
+		CONNECT,
+		/** The TLS handshake on a new connection */
+		TLS,
+		/** Waiting for a connection from the client's pool */
+		POOL,
+		/** Sending the request and waiting for the response's status and headers (time to first byte) */
+		UPSTREAM,
+		/** Receiving the response body */
+		DOWNLOAD,
+		/** Waiting between retries */
+		RETRY,
+		/** Decoding the response body (everything of the client call not measured otherwise) */
+		DECODE,
+		/** Validating the decoded forecasts */
+		VALIDATE;
+
+		private final String metricName = name().toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Creates the timings for a sampled request and stores them as request attribute.
+	 *
+	 * @param request the current request, must not be {@code null}
+	 *
+	 * @return the timings, never {@code null}
+	 */
+	static RequestTimings start(final HttpServletRequest request) {
+		final RequestTimings timings = new RequestTimings();
+
+		request.setAttribute(ATTRIBUTE, timings);
+
+		return timings;
+	}
+
+	/**
+	 * Provides the timings of the request bound to the current thread.
+	 *
+	 * @return the timings or an empty {@link Optional} if the request is not sampled or there is no request bound to
+	 *         the thread, never {@code null}
+	 */
+	public static Optional<RequestTimings> current() {
+		final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		return attributes == null ? Optional.empty()
+				: Optional.ofNullable(
+						(RequestTimings) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+	}
+
+	/**
+	 * Provides the timings from a Reactor context.
+	 *
+	 * @param context the Reactor {@link ContextView} of a {@code WebClient} call, must not be {@code null}
+	 *
+	 * @return the timings or an empty {@link Optional} if the request is not sampled, never {@code null}
+	 */
+	public static Optional<RequestTimings> from(final ContextView context) {
+		return context.getOrEmpty(RequestTimings.class);
+	}
+
+	/**
+	 * Calls {@link #mark()} on the current request's timings, if any.
+	 */
+	public static void markCurrent() {
+		current().ifPresent(RequestTimings::mark);
+	}
+
+	/**
+	 * Calls {@link #lap(Phase)} on the current request's timings, if any.
+	 *
+	 * @param phase the phase to attribute the lap to, must not be {@code null}
+	 */
+	public static void lapCurrent(final Phase phase) {
+		current().ifPresent(timings -> timings.lap(phase));
+	}
+
+	/**
+	 * Calls {@link #add(Phase, long)} on the current request's timings, if any.
+	 *
+	 * @param phase the measured phase, must not be {@code null}
+	 * @param nanos the measured time in nanoseconds
+	 */
+	public static void addCurrent(final Phase phase, final long nanos) {
+		current().ifPresent(timings -> timings.add(phase, nanos));
+	}
+
+	/**
+	 * Adds a measured time to a phase.
+	 *
+	 * @param phase the measured phase, must not be {@code null}
+	 * @param nanos the measured time in nanoseconds
+	 */
+	public void add(final Phase phase, final long nanos) {
+		phaseNanos.addAndGet(phase.ordinal(), nanos);
+	}
+
+	/**
+	 * Adds a measured time to a phase.
+	 *
+	 * @param phase    the measured phase, must not be {@code null}
+	 * @param duration the measured time, must not be {@code null}
+	 */
+	public void add(final Phase phase, final Duration duration) {
+		add(phase, duration.toNanos());
+	}
+
+	/**
+	 * Starts a new lap.
+	 */
+	public synchronized void mark() {
+		lapStartNanos = System.nanoTime();
+		lapRecordedNanos = recordedNanos();
+	}
+
+	/**
+	 * Attributes the time since the last {@link #mark()} or lap to the given phase, without the time recorded for any
+	 * phase meanwhile, and starts a new lap.
+	 *
+	 * @param phase the phase to attribute the lap to, must not be {@code null}
+	 */
+	public synchronized void lap(final Phase phase) {
+		final long now = System.nanoTime();
+		final long recorded = recordedNanos();
+
+		add(phase, Math.max(0, now - lapStartNanos - (recorded - lapRecordedNanos)));
+
+		lapStartNanos = now;
+		lapRecordedNanos = recordedNanos();
+	}
+
+	/**
+	 * Formats the timings as value of a {@code Server-Timing} response header, e.g.
+	 * {@code dns;dur=0.4, connect;dur=1.1, upstream;dur=85.2, total;dur=90.3}. Phases that did not occur are left out.
+	 *
+	 * @return the header value, never {@code null}
+	 *
+	 * @see <a href="https://www.w3.org/TR/server-timing/">Server Timing</a>
+	 */
+	String toServerTiming() {
+		final StringBuilder header = new StringBuilder();
+
+		for (final Phase phase : Phase.values()) {
+			final long nanos = phaseNanos.get(phase.ordinal());
+
+			if (nanos > 0) {
+				header.append(phase.metricName).append(";dur=").append(millis(nanos)).append(", ");
+			}
+		}
+
+		return header.append("total;dur=").append(millis(System.nanoTime() - startNanos)).toString();
+	}
+
+	/**
+	 * Formats the timings as {@code key=value} fields of a structured log line, e.g.
+	 * {@code total_ms=90.3 dns_ms=0.4 connect_ms=1.1 ...}. All phases are contained.
+	 *
+	 * @return the log fields, never {@code null}
+	 */
+	String toLogFields() {
+		final StringBuilder fields = new StringBuilder("total_ms=").append(millis(System.nanoTime() - startNanos));
+
+		for (final Phase phase : Phase.values()) {
+			fields.append(' ').append(phase.metricName).append("_ms=").append(millis(phaseNanos.get(phase.ordinal())));
+		}
+
+		return fields.toString();
+	}
+
+	private long recordedNanos() {
+		long sum = 0;
+
+		for (int i = 0; i < phaseNanos.length(); i++) {
+			sum += phaseNanos.get(i);
+		}
+
+		return sum;
+	}
+
+	private static String millis(final long nanos) {
+		return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+	}
+}
@@ -0,0 +1,48 @@
+package de.infoteam.timing;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the {@link RequestTimings} of a sampled request as {@code Server-Timing} header to the response. This has to
+ * happen right before the body is written - afterwards the response is committed and headers are ignored. The
+ * {@code total} value therefore does not contain the serialization of the response body.
+ * <p>
+ * The advice only applies to the bodies of the forecast API in {@value #API_PACKAGE}, the error responses of the
+ * exception handlers and actuator endpoints are left alone.
+ *
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.1
+ *
+ * @see <a href="https://www.w3.org/TR/server-timing/">Server Timing</a>
+ *
+ */
+@ControllerAdvice(basePackages = ServerTimingAdvice.API_PACKAGE)
+class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+	static final String API_PACKAGE = "de.infoteam.api";
+
+	private static final String SERVER_TIMING = "Server-Timing";
+
+	@Override
+	public boolean supports(final MethodParameter returnType,
+			final Class<? extends HttpMessageConverter<?>> converterType) {
+		return RequestTimings.current().isPresent();
+	}
+
+	@Override
+	public Object beforeBodyWrite(final Object body, final MethodParameter returnType,
+			final MediaType selectedContentType, final Class<? extends HttpMessageConverter<?>> selectedConverterType,
+			final ServerHttpRequest request, final ServerHttpResponse response) {
+		RequestTimings.current()
+				.ifPresent(timings -> response.getHeaders().add(SERVER_TIMING, timings.toServerTiming()));
+
+		return body;
+	}
+}
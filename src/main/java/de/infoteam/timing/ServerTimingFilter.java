@@ -0,0 +1,62 @@
+package de.infoteam.timing;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Samples the requests to this service for the latency breakdown of their {@code .NET} service calls: A sampled
+ * request gets {@link RequestTimings} that the client hooks record to, the {@link ServerTimingAdvice} returns them as
+ * {@code Server-Timing} header and this filter writes them as structured log line when the request is done.
+ * <p>
+ * The share of sampled requests is configured with {@code doch.net.timing.sample-rate} ({@code 0} switches the
+ * breakdown off, {@code 1} samples all requests). Requests that are not sampled are not recorded at all.
+ *
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.0
+ *
+ */
+@Component
+@Log4j2
+class ServerTimingFilter extends OncePerRequestFilter {
+
+	private final double sampleRate;
+
+	/**
+	 * Creates the filter.
+	 *
+	 * @param sampleRate the share of sampled requests between {@code 0} and {@code 1}
+	 */
+	ServerTimingFilter(@Value("${doch.net.timing.sample-rate:0.1}") final double sampleRate) {
+		this.sampleRate = sampleRate;
+	}
+
+	@Override
+	protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+			final FilterChain filterChain) throws ServletException, IOException {
+		if (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		final RequestTimings timings = RequestTimings.start(request);
+
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			log.info("Request timings: method={} uri={} status={} {}", request.getMethod(), request.getRequestURI(),
+					response.getStatus(), timings.toLogFields());
+		}
+	}
+}
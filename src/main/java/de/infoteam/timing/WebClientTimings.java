@@ -0,0 +1,166 @@
+package de.infoteam.timing;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import de.infoteam.timing.RequestTimings.Phase;
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import reactor.netty.Connection;
+import reactor.netty.http.client.ContextAwareHttpClientMetricsRecorder;
+import reactor.netty.http.client.HttpClient;
+import reactor.util.context.ContextView;
+
+/**
+ * The hooks recording the {@link RequestTimings} of the {@link WebClient} calls. The timings travel in the Reactor
+ * context of a call, since the phases are observed on the event loop threads:
+ * <ul>
+ * <li>{@link #contextFilter()} puts the timings of the current request into the context</li>
+ * <li>A context-aware metrics recorder of Reactor Netty measures the TCP connect, the TLS handshake and the body
+ * download</li>
+ * <li>The name resolution is measured with the resolve hooks of Reactor Netty's {@link HttpClient}. They do not see the
+ * context, so the timings are attached to a new channel when it is initialized</li>
+ * <li>The pool acquisition and the time to first byte are laps ending when the request is sent and when the response
+ * headers are received</li>
+ * </ul>
+ *
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.0
+ *
+ */
+public final class WebClientTimings {
+
+	private static final AttributeKey<RequestTimings> TIMINGS = AttributeKey
+			.valueOf(WebClientTimings.class.getName() + ".timings");
+	private static final AttributeKey<Long> RESOLVE_START = AttributeKey
+			.valueOf(WebClientTimings.class.getName() + ".resolveStart");
+
+	private static final TimingRecorder RECORDER = new TimingRecorder();
+
+	private WebClientTimings() {
+		/* Only static hooks */
+	}
+
+	/**
+	 * Provides the filter that puts the current request's {@link RequestTimings} into the Reactor context of a call.
+	 * Has to be the first (outermost) filter of the {@link WebClient}: it is the only one that is guaranteed to be
+	 * subscribed on the request's thread.
+	 *
+	 * @return the {@link ExchangeFilterFunction}, never {@code null}
+	 */
+	public static ExchangeFilterFunction contextFilter() {
+		return (request, next) -> next.exchange(request).contextWrite(context -> RequestTimings.current()
+				.map(timings -> context.put(RequestTimings.class, timings)).orElse(context));
+	}
+
+	/**
+	 * Adds the timing hooks to a Reactor Netty {@link HttpClient}.
+	 *
+	 * @param client the {@link HttpClient} to instrument, must not be {@code null}
+	 *
+	 * @return the instrumented {@link HttpClient}, never {@code null}
+	 */
+	public static HttpClient instrument(final HttpClient client) {
+		return client
+				.doOnChannelInit((observer, channel, remoteAddress) -> RequestTimings.from(observer.currentContext())
+						.ifPresent(timings -> channel.attr(TIMINGS).set(timings)))
+				.doOnResolve((final Connection connection) -> connection.channel().attr(RESOLVE_START)
+						.set(System.nanoTime()))
+				.doAfterResolve((connection, address) -> recordResolve(connection.channel()))
+				.doOnRequest((request, connection) -> RequestTimings.from(request.currentContextView())
+						.ifPresent(timings -> timings.lap(Phase.POOL)))
+				.doOnResponse((response, connection) -> RequestTimings.from(response.currentContextView())
+						.ifPresent(timings -> timings.lap(Phase.UPSTREAM)))
+				.metrics(true, () -> RECORDER);
+	}
+
+	private static void recordResolve(final Channel channel) {
+		final RequestTimings timings = channel.attr(TIMINGS).getAndSet(null);
+		final Long start = channel.attr(RESOLVE_START).getAndSet(null);
+
+		if (timings != null && start != null) {
+			timings.add(Phase.DNS, System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * The metrics recorder passing the connection-level and body timings of Reactor Netty to the
+	 * {@link RequestTimings} in the call's context. All other metrics are ignored.
+	 */
+	private static final class TimingRecorder extends ContextAwareHttpClientMetricsRecorder {
+
+		@Override
+		public void recordConnectTime(final ContextView context, final SocketAddress remoteAddress,
+				final Duration time, final String status) {
+			RequestTimings.from(context).ifPresent(timings -> timings.add(Phase.CONNECT, time));
+		}
+
+		@Override
+		public void recordTlsHandshakeTime(final ContextView context, final SocketAddress remoteAddress,
+				final Duration time, final String status) {
+			RequestTimings.from(context).ifPresent(timings -> timings.add(Phase.TLS, time));
+		}
+
+		@Override
+		public void recordDataReceivedTime(final ContextView context, final SocketAddress remoteAddress,
+				final String uri, final String method, final String status, final Duration time) {
+			RequestTimings.from(context).ifPresent(timings -> timings.add(Phase.DOWNLOAD, time));
+		}
+
+		@Override
+		public void recordDataSentTime(final ContextView context, final SocketAddress remoteAddress, final String uri,
+				final String method, final Duration time) {
+			/* Part of the time to first byte */
+		}
+
+		@Override
+		public void recordResponseTime(final ContextView context, final SocketAddress remoteAddress,
+				final String uri, final String method, final String status, final Duration time) {
+			/* The sum of the time to first byte and the download */
+		}
+
+		@Override
+		public void recordResolveAddressTime(final SocketAddress remoteAddress, final Duration time,
+				final String status) {
+			/* Not context-aware, see the resolve hooks */
+		}
+
+		@Override
+		public void incrementErrorsCount(final ContextView context, final SocketAddress remoteAddress,
+				final String uri) {
+			/* Not a timing */
+		}
+
+		@Override
+		public void recordDataReceived(final ContextView context, final SocketAddress remoteAddress, final String uri,
+				final long bytes) {
+			/* Not a timing */
+		}
+
+		@Override
+		public void recordDataSent(final ContextView context, final SocketAddress remoteAddress, final String uri,
+				final long bytes) {
+			/* Not a timing */
+		}
+
+		@Override
+		public void incrementErrorsCount(final ContextView context, final SocketAddress remoteAddress) {
+			/* Not a timing */
+		}
+
+		@Override
+		public void recordDataReceived(final ContextView context, final SocketAddress remoteAddress,
+				final long bytes) {
+			/* Not a timing */
+		}
+
+		@Override
+		public void recordDataSent(final ContextView context, final SocketAddress remoteAddress, final long bytes) {
+			/* Not a timing */
+		}
+	}
+}
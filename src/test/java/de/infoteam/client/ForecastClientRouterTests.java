@@ -0,0 +1,86 @@
+package de.infoteam.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import javax.validation.ConstraintViolationException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import de.infoteam.model.ForecastBatch;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for the statistics of the {@link ForecastClientRouter}: only failures that depend on the client variant
+ * count as errors, a response failing the validation counts as answered call.
+ *
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.0
+ *
+ */
+class ForecastClientRouterTests {
+
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+
+	@Test
+	void validationAndClientErrorsAreAnsweredCalls() {
+		final ForecastClient client = router(new ConstraintViolationException(Set.of()),
+				new HttpClientErrorException(HttpStatus.NOT_FOUND));
+
+		assertThrows(ConstraintViolationException.class, client::getForecasts);
+		assertThrows(HttpClientErrorException.class, client::getForecasts);
+
+		assertEquals(0, errorRate());
+		assertTrue(latency() > 0);
+	}
+
+	@Test
+	void transportAndServerErrorsAreVariantErrors() {
+		final ForecastClient client = router(new ResourceAccessException("refused"),
+				new HttpServerErrorException(HttpStatus.BAD_GATEWAY));
+
+		assertThrows(ResourceAccessException.class, client::getForecasts);
+		assertThrows(HttpServerErrorException.class, client::getForecasts);
+
+		assertEquals(1 - 0.9 * 0.9, errorRate(), 1e-9);
+		assertEquals(0, latency());
+	}
+
+	private ForecastClient router(final RuntimeException... failures) {
+		final Supplier<RuntimeException> next = List.of(failures).iterator()::next;
+		final ForecastClient failing = new ForecastClient() {
+
+			@Override
+			public ClientType type() {
+				return ClientType.REST_TEMPLATE;
+			}
+
+			@Override
+			public ForecastBatch getForecasts() {
+				throw next.get();
+			}
+		};
+
+		return new ForecastClientRouter(List.of(failing), ClientType.REST_TEMPLATE.getExternalName(), 0, 0.1, registry)
+				.select(ClientType.REST_TEMPLATE);
+	}
+
+	private double errorRate() {
+		return registry.get("dochnet.client.routing.error.rate").gauge().value();
+	}
+
+	private double latency() {
+		return registry.get("dochnet.client.routing.latency").timeGauge().value();
+	}
+}
@@ -0,0 +1,95 @@
+package de.infoteam.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.infoteam.model.ForecastBatch;
+import de.infoteam.model.WeatherForecast;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * A micro benchmark for the allocations per decoded response: Spring's {@link ObjectMapper} decoding records versus
+ * decoding a {@link ForecastBatch}. The batch has to allocate less; the numbers are logged.
+ * <p>
+ * The benchmark takes a while and runs with the Maven profile {@code benchmark} only: {@code mvn test -Pbenchmark}.
+ * 
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.3
+ *
+ */
+@Tag("benchmark")
+@Log4j2
+class CodecAllocationBenchmarkTests {
+
+	private static final int ITEMS = 1_000;
+	private static final int WARMUP_ROUNDS = 2_000;
+	private static final int ROUNDS = 2_000;
+
+	@Test
+	void allocationsPerResponse() throws Exception {
+		final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+
+		final WeatherForecast[] forecasts = IntStream.range(0, ITEMS)
+				.mapToObj(i -> new WeatherForecast(LocalDateTime.of(2022, 3, 3, 12, 0).plusDays(i), i % 50,
+						32 + (int) ((i % 50) / 0.5556), "Mild"))
+				.toArray(WeatherForecast[]::new);
+		final byte[] json = mapper.writeValueAsBytes(forecasts);
+
+		assertArrayEquals(forecasts, mapper.readValue(json, WeatherForecast[].class));
+
+		final ForecastBatch batch = mapper.readValue(json, ForecastBatch.class);
+
+		assertArrayEquals(forecasts, IntStream.range(0, batch.size()).mapToObj(batch::get).toArray());
+		assertEquals(new String(json), mapper.writeValueAsString(batch));
+
+		final long recordBytes = measure(mapper, json, WeatherForecast[].class);
+		final long batchBytes = measure(mapper, json, ForecastBatch.class);
+
+		log.info("Allocated bytes per response of {} items: records {}, batch {} ({} %)", ITEMS, recordBytes,
+				batchBytes, percent(batchBytes, recordBytes));
+
+		assertTrue(batchBytes < recordBytes, "batch allocates less than the records");
+	}
+
+	/**
+	 * Decodes the given response body repeatedly and measures the allocated bytes of the current thread.
+	 * 
+	 * @param mapper the {@link ObjectMapper} to decode with
+	 * @param json   the response body
+	 * @param type   the type to decode into
+	 * 
+	 * @return the average number of allocated bytes per decoded response
+	 */
+	private static long measure(final ObjectMapper mapper, final byte[] json, final Class<?> type) throws Exception {
+		final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+
+		for (int i = 0; i < WARMUP_ROUNDS; i++) {
+			mapper.readValue(json, type);
+		}
+
+		final long before = threads.getCurrentThreadAllocatedBytes();
+
+		for (int i = 0; i < ROUNDS; i++) {
+			mapper.readValue(json, type);
+		}
+
+		return (threads.getCurrentThreadAllocatedBytes() - before) / ROUNDS;
+	}
+
+	private static String percent(final long bytes, final long baseline) {
+		return String.format("%+.1f", 100.0 * (bytes - baseline) / baseline);
+	}
+}
@@ -0,0 +1,76 @@
+package de.infoteam.errorhandling;
+
+import static de.infoteam.model.ForecastFixtures.batch;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import de.infoteam.model.ForecastBatch;
+import de.infoteam.model.WeatherForecast;
+
+/**
+ * Unit tests for the validation of the .NET service's responses: the validation of a {@link ForecastBatch} on its
+ * columns reports the same violations as the validation of the records.
+ *
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.2
+ *
+ */
+class ErrorServiceTests {
+
+	private static final LocalDateTime DATE = LocalDateTime.of(2022, 3, 3, 12, 0);
+
+	private final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+	private final ErrorService errorService = new ErrorService(null, validatorFactory.getValidator());
+
+	@AfterEach
+	void closeValidatorFactory() {
+		validatorFactory.close();
+	}
+
+	@Test
+	void validBatchPasses() {
+		final WeatherForecast[] forecasts = { new WeatherForecast(DATE, -20, -4, "Freezing"),
+				new WeatherForecast(DATE.plusDays(1), 55, 131, null),
+				new WeatherForecast(DATE.plusDays(2), 0, 32, "Hot") };
+
+		assertDoesNotThrow(() -> errorService.validateDotNetResponse(batch(forecasts)));
+	}
+
+	@Test
+	void batchViolationsMatchTheRecords() {
+		final WeatherForecast[] forecasts = { new WeatherForecast(DATE, -21, 132, "Freezing"),
+				new WeatherForecast(null, 10, null, "Hi"), new WeatherForecast(DATE, 10, 50, "Mild"),
+				new WeatherForecast(DATE, null, 50, "A summary too long") };
+
+		final Set<String> records = Arrays.stream(forecasts).map(validatorFactory.getValidator()::validate)
+				.flatMap(Set::stream).map(ErrorServiceTests::describe).collect(Collectors.toSet());
+		final ConstraintViolationException batch = assertThrows(ConstraintViolationException.class,
+				() -> errorService.validateDotNetResponse(batch(forecasts)));
+
+		assertEquals(7, records.size());
+		assertEquals(records, violations(batch));
+	}
+
+	private static Set<String> violations(final ConstraintViolationException e) {
+		return e.getConstraintViolations().stream().map(ErrorServiceTests::describe).collect(Collectors.toSet());
+	}
+
+	private static String describe(final ConstraintViolation<?> violation) {
+		return violation.getPropertyPath() + " " + violation.getInvalidValue() + " " + violation.getMessage();
+	}
+}
@@ -0,0 +1,85 @@
+package de.infoteam.forecast;
+
+import static de.infoteam.model.ForecastFixtures.batch;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import de.infoteam.model.ForecastStatistics.Aggregate;
+import de.infoteam.model.ForecastStatistics.TemperatureStatistics;
+import de.infoteam.model.WeatherForecast;
+
+/**
+ * Unit tests for the {@link ForecastAggregates}: the recovery of minimum and maximum after a replaced or evicted
+ * forecast and the growth of the histograms to lower temperatures.
+ *
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.2
+ *
+ */
+class ForecastAggregatesTests {
+
+	private static final LocalDateTime START = LocalDateTime.of(2026, 10, 18, 0, 0);
+
+	private final ForecastAggregates aggregates = new ForecastAggregates();
+
+	@Test
+	void replacingTheExtremesRecoversMinimumAndMaximum() {
+		final ForecastStore store = new ForecastStore(100, aggregates);
+
+		store.merge(batch(forecast(0, -10, "Mild"), forecast(1, 5, "Mild"), forecast(2, 30, "Mild")));
+		store.merge(batch(forecast(0, 7, "Mild"), forecast(2, 6, "Mild")));
+
+		final TemperatureStatistics mild = aggregates.snapshot().summaries().get("Mild");
+
+		assertEquals(3, mild.count());
+		assertEquals(new Aggregate(5, 7, 6.0), mild.temperatureC());
+	}
+
+	@Test
+	void evictingTheExtremesRecoversMinimumAndMaximum() {
+		final ForecastStore store = new ForecastStore(2, aggregates);
+
+		store.merge(batch(forecast(0, -20, "Cool"), forecast(1, 4, "Cool")));
+		store.merge(batch(forecast(2, 2, "Cool")));
+
+		final TemperatureStatistics cool = aggregates.snapshot().summaries().get("Cool");
+
+		assertEquals(2, cool.count());
+		assertEquals(new Aggregate(2, 4, 3.0), cool.temperatureC());
+		assertFalse(aggregates.snapshot().days().containsKey(START.toLocalDate()));
+	}
+
+	@Test
+	void histogramGrowsToNegativeTemperatures() {
+		aggregates.add(forecast(0, 55, "Hot"));
+		aggregates.add(forecast(1, -20, "Hot"));
+		aggregates.add(forecast(2, 10, "Hot"));
+		aggregates.remove(forecast(0, 55, "Hot"));
+		aggregates.publish();
+
+		final TemperatureStatistics hot = aggregates.snapshot().summaries().get("Hot");
+
+		assertEquals(2, hot.count());
+		assertEquals(new Aggregate(-20, 10, -5.0), hot.temperatureC());
+		assertEquals(new Aggregate(-4, 50, 23.0), hot.temperatureF());
+	}
+
+	@Test
+	void removingTheLastForecastDropsTheGroup() {
+		aggregates.add(forecast(0, 12, "Warm"));
+		aggregates.remove(forecast(0, 12, "Warm"));
+		aggregates.publish();
+
+		assertFalse(aggregates.snapshot().summaries().containsKey("Warm"));
+		assertFalse(aggregates.snapshot().days().containsKey(START.toLocalDate()));
+	}
+
+	private static WeatherForecast forecast(final int day, final int temperatureC, final String summary) {
+		return new WeatherForecast(START.plusDays(day), temperatureC, 32 + temperatureC * 9 / 5, summary);
+	}
+}
@@ -0,0 +1,61 @@
+package de.infoteam.forecast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+
+import de.infoteam.model.WeatherForecast;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.BufferOverflowStrategy;
+
+/**
+ * Unit tests for the {@link ForecastBroadcaster}: a slow subscriber holds exactly its configured number of change sets.
+ *
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.1
+ *
+ */
+class ForecastBroadcasterTests {
+
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+
+	@Test
+	void slowSubscriberKeepsExactlyTheBufferSize() {
+		final ForecastBroadcaster broadcaster = new ForecastBroadcaster(4, BufferOverflowStrategy.DROP_OLDEST,
+				Duration.ofHours(1), Duration.ofHours(1), Duration.ofSeconds(10), 1, registry);
+		final List<List<WeatherForecast>> received = new ArrayList<>();
+		final BaseSubscriber<List<WeatherForecast>> subscriber = new BaseSubscriber<>() {
+
+			@Override
+			protected void hookOnSubscribe(final Subscription subscription) {
+				/* Requests nothing until the test asks for it */
+			}
+
+			@Override
+			protected void hookOnNext(final List<WeatherForecast> changeSet) {
+				received.add(changeSet);
+			}
+		};
+
+		broadcaster.changes().subscribe(subscriber);
+
+		for (int i = 0; i < 40; i++) {
+			broadcaster.publish(List.of());
+		}
+
+		subscriber.request(Long.MAX_VALUE);
+		subscriber.dispose();
+		broadcaster.complete();
+
+		assertEquals(4, received.size());
+		assertEquals(36, registry.get("dochnet.stream.dropped").counter().count());
+	}
+}
@@ -0,0 +1,165 @@
+package de.infoteam.forecast;
+
+import static de.infoteam.model.ForecastFixtures.batch;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import de.infoteam.model.ForecastPage;
+import de.infoteam.model.WeatherForecast;
+
+/**
+ * Unit tests for the {@link ForecastStore}: the interplay of cursor and lower bound in range queries, the cursor of the
+ * last page, and merges and evictions across the store's segments.
+ *
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.2
+ *
+ */
+class ForecastStoreTests {
+
+	private static final LocalDateTime START = LocalDateTime.of(2026, 10, 18, 0, 0);
+
+	private final ForecastStore store = new ForecastStore(1_000, new ForecastAggregates());
+
+	@Test
+	void pagesWalkTheRangeWithoutGapsOrDuplicates() {
+		fill(10);
+
+		final ForecastPage first = store.query(day(2), day(8), null, 3);
+		final ForecastPage second = store.query(day(2), day(8), first.nextCursor(), 3);
+		final ForecastPage last = store.query(day(2), day(8), second.nextCursor(), 3);
+
+		assertEquals(List.of(day(2), day(3), day(4)), dates(first));
+		assertEquals(day(4), first.nextCursor());
+		assertEquals(List.of(day(5), day(6), day(7)), dates(second));
+		assertEquals(List.of(day(8)), dates(last));
+		assertNull(last.nextCursor());
+	}
+
+	@Test
+	void cursorIsAnExclusiveLowerBound() {
+		fill(5);
+
+		assertEquals(List.of(day(3), day(4)), dates(store.query(null, null, day(2), 10)));
+		assertEquals(List.of(day(3), day(4)), dates(store.query(day(1), null, day(2), 10)));
+	}
+
+	@Test
+	void fromWinsOverACursorBeforeIt() {
+		fill(5);
+
+		assertEquals(List.of(day(3), day(4)), dates(store.query(day(3), null, day(1), 10)));
+	}
+
+	@Test
+	void cursorOnTheFromDateExcludesIt() {
+		fill(5);
+
+		assertEquals(List.of(day(3), day(4)), dates(store.query(day(2), null, day(2), 10)));
+	}
+
+	@Test
+	void nextCursorIsNullIfThePageEndsExactlyWithTheRange() {
+		fill(6);
+
+		final ForecastPage page = store.query(day(3), null, null, 3);
+
+		assertEquals(List.of(day(3), day(4), day(5)), dates(page));
+		assertNull(page.nextCursor());
+	}
+
+	@Test
+	void cursorAfterTheUpperBoundYieldsAnEmptyPage() {
+		fill(5);
+
+		final ForecastPage page = store.query(null, day(2), day(3), 10);
+
+		assertTrue(page.forecasts().isEmpty());
+		assertNull(page.nextCursor());
+	}
+
+	@Test
+	void limitIsCapped() {
+		fill(ForecastStore.MAX_LIMIT + 10);
+
+		assertEquals(ForecastStore.MAX_LIMIT, store.query(null, null, null, 1_000).forecasts().size());
+		assertEquals(1, store.query(null, null, null, 0).forecasts().size());
+	}
+
+	@Test
+	void pagesWalkAcrossSegments() {
+		final int items = 3 * ForecastStore.SEGMENT_SIZE + 7;
+
+		store.merge(batch(IntStream.range(0, items).filter(day -> day % 2 == 0).mapToObj(ForecastStoreTests::forecast)
+				.toArray(WeatherForecast[]::new)));
+		store.merge(batch(IntStream.range(0, items).filter(day -> day % 2 == 1).mapToObj(ForecastStoreTests::forecast)
+				.toArray(WeatherForecast[]::new)));
+
+		assertEquals(IntStream.range(0, items).mapToObj(ForecastStoreTests::day).toList(), readAll(store));
+		assertEquals(List.of(day(255), day(256), day(257)), dates(store.query(day(255), day(257), null, 10)));
+	}
+
+	@Test
+	void mergeReportsNewAndChangedItemsInDateOrder() {
+		fill(5);
+
+		final WeatherForecast changed = new WeatherForecast(day(3), 0, 32, "Cool");
+		final WeatherForecast repeated = new WeatherForecast(day(6), 1, 33, null);
+
+		assertEquals(List.of(changed, repeated, forecast(7)),
+				store.merge(batch(forecast(7), changed, forecast(1), forecast(6), repeated)));
+		assertEquals(List.of(forecast(2), changed, forecast(4), repeated, forecast(7)),
+				store.query(day(2), null, null, 10).forecasts());
+		assertTrue(store.merge(batch(forecast(1), changed)).isEmpty());
+	}
+
+	@Test
+	void oldestItemsAreEvicted() {
+		final ForecastStore small = new ForecastStore(ForecastStore.SEGMENT_SIZE + 10, new ForecastAggregates());
+
+		small.merge(batch(IntStream.range(0, 2 * ForecastStore.SEGMENT_SIZE).mapToObj(ForecastStoreTests::forecast)
+				.toArray(WeatherForecast[]::new)));
+		small.merge(batch(forecast(0), forecast(2 * ForecastStore.SEGMENT_SIZE)));
+
+		assertEquals(IntStream.rangeClosed(ForecastStore.SEGMENT_SIZE - 9, 2 * ForecastStore.SEGMENT_SIZE)
+				.mapToObj(ForecastStoreTests::day).toList(), readAll(small));
+	}
+
+	private static List<LocalDateTime> readAll(final ForecastStore store) {
+		ForecastPage page = store.query(null, null, null, ForecastStore.MAX_LIMIT);
+		final List<LocalDateTime> read = new ArrayList<>(dates(page));
+
+		while (page.nextCursor() != null) {
+			page = store.query(null, null, page.nextCursor(), ForecastStore.MAX_LIMIT);
+			read.addAll(dates(page));
+		}
+
+		return read;
+	}
+
+	private void fill(final int days) {
+		store.merge(
+				batch(IntStream.range(0, days).mapToObj(ForecastStoreTests::forecast).toArray(WeatherForecast[]::new)));
+	}
+
+	private static WeatherForecast forecast(final int day) {
+		return new WeatherForecast(day(day), day % 76 - 20, 32 + (day % 76 - 20) * 9 / 5, "Mild");
+	}
+
+	private static LocalDateTime day(final int day) {
+		return START.plusDays(day);
+	}
+
+	private static List<LocalDateTime> dates(final ForecastPage page) {
+		return page.forecasts().stream().map(WeatherForecast::date).toList();
+	}
+}
@@ -0,0 +1,89 @@
+package de.infoteam.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+/**
+ * Unit tests for the {@code JSON} codec of the {@link ForecastBatch}: the lossless round trip in the record's format,
+ * the summary codes shared by all batches and the rejection of values the .NET service does not send.
+ *
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.2
+ *
+ */
+class ForecastBatchTests {
+
+	private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+
+	@Test
+	void roundTripMatchesTheRecords() throws Exception {
+		final LocalDateTime start = LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_000_000);
+		final WeatherForecast[] forecasts = IntStream.range(0, 200)
+				.mapToObj(i -> new WeatherForecast(start.plusHours(i * 7), i % 76 - 20, 32 + (i % 76 - 20) * 9 / 5,
+						i % 3 == 0 ? "Summary " + i % 11 : "Balmy"))
+				.toArray(WeatherForecast[]::new);
+		final byte[] json = mapper.writeValueAsBytes(forecasts);
+
+		final ForecastBatch batch = mapper.readValue(json, ForecastBatch.class);
+
+		assertArrayEquals(forecasts, IntStream.range(0, batch.size()).mapToObj(batch::get).toArray());
+		assertEquals(new String(json), mapper.writeValueAsString(batch));
+	}
+
+	@Test
+	void missingValuesAreNull() throws Exception {
+		final ForecastBatch batch = mapper.readValue("[{\"summary\":null,\"unknown\":{\"a\":[1]}}]",
+				ForecastBatch.class);
+
+		assertEquals(new WeatherForecast(null, null, null, null), batch.get(0));
+	}
+
+	@Test
+	void summaryCodesAreSharedByAllBatches() throws Exception {
+		final ForecastBatch first = mapper.readValue("[{\"summary\":\"Drizzle\"},{\"summary\":\"Hot\"}]",
+				ForecastBatch.class);
+		final ForecastBatch second = mapper.readValue("[{\"summary\":\"Hot\"},{\"summary\":\"Drizzle\"}]",
+				ForecastBatch.class);
+
+		assertEquals(first.summaryCode(0), second.summaryCode(1));
+		assertEquals(first.summaryCode(1), second.summaryCode(0));
+		assertEquals("Drizzle", SummaryDictionary.summary(second.summaryCode(1)));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "\"hot\"", "\"12\"", "12.7", "true", "[12]" })
+	void temperaturesHaveToBeIntegers(final String temperature) {
+		assertThrows(MismatchedInputException.class, () -> mapper.readValue(
+				"[{\"date\":\"2022-03-03T12:00:00.000\",\"temperatureC\":" + temperature + "}]", ForecastBatch.class));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "12", "true", "[\"a\"]", "{\"a\":\"b\"}" })
+	void summariesHaveToBeStrings(final String summary) {
+		assertThrows(MismatchedInputException.class, () -> mapper.readValue(
+				"[{\"summary\":" + summary + "},{\"date\":\"2022-03-03T12:00:00.000\",\"summary\":\"Hot\"}]",
+				ForecastBatch.class));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "\"2022-03-03T12:00:00\"", "\"2022-03-03T12:00:00.0001\"", "\"2022-03-03T12:00\"",
+			"\"2022-03-03T12:00:00.000Z\"", "\"2022-03-03 12:00:00.000\"", "\"2022-02-30T12:00:00.000\"",
+			"\"2022-03-03T24:00:00.000\"", "\"2022-03-03T12:60:00.000\"", "1646308800000" })
+	void datesHaveToMatchTheServicesFormat(final String date) {
+		assertThrows(MismatchedInputException.class,
+				() -> mapper.readValue("[{\"date\":" + date + "}]", ForecastBatch.class));
+	}
+}
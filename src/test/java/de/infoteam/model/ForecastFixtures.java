@@ -0,0 +1,37 @@
+package de.infoteam.model;
+
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.SneakyThrows;
+
+/**
+ * The test factory of {@link ForecastBatch}es: a batch is decoded from the {@code JSON} of the given forecasts, just
+ * like a response of the .NET service.
+ *
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.0
+ *
+ */
+public final class ForecastFixtures {
+
+	private static final ObjectMapper MAPPER = Jackson2ObjectMapperBuilder.json().build();
+
+	private ForecastFixtures() {
+		/* Only static factories */
+	}
+
+	/**
+	 * Creates a batch of forecasts.
+	 *
+	 * @param forecasts the forecasts in the order of the batch, must not be {@code null}
+	 *
+	 * @return the decoded {@link ForecastBatch}, never {@code null}
+	 */
+	@SneakyThrows
+	public static ForecastBatch batch(final WeatherForecast... forecasts) {
+		return MAPPER.readValue(MAPPER.writeValueAsBytes(forecasts), ForecastBatch.class);
+	}
+}
@@ -0,0 +1,133 @@
+package de.infoteam.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.infoteam.resilience.AdaptiveConcurrencyLimiter.Permit;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for the {@link AdaptiveConcurrencyLimiter}: the slot accounting and the direction of the gradient's limit
+ * adjustments.
+ * 
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.0
+ *
+ */
+class AdaptiveConcurrencyLimiterTests {
+
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+
+	@Test
+	void tryAcquireStopsAtTheLimit() {
+		final AdaptiveConcurrencyLimiter limiter = limiter(2, 0.2);
+		final Permit first = limiter.tryAcquire().orElseThrow();
+
+		limiter.tryAcquire().orElseThrow();
+
+		assertTrue(limiter.tryAcquire().isEmpty());
+
+		first.onIgnore();
+
+		assertTrue(limiter.tryAcquire().isPresent());
+	}
+
+	@Test
+	void acquireIsRejectedAfterTheQueueTime() {
+		final AdaptiveConcurrencyLimiter limiter = limiter(1, 0.2);
+
+		limiter.acquire();
+
+		assertThrows(ConcurrencyLimitExceededException.class, limiter::acquire);
+		assertEquals(1, registry.get("dochnet.client.concurrency.rejected").counter().count());
+	}
+
+	@Test
+	void releasingTwiceFreesOneSlot() {
+		final AdaptiveConcurrencyLimiter limiter = limiter(4, 0.2);
+		final Permit permit = limiter.acquire();
+
+		permit.onIgnore();
+		permit.onSuccess();
+
+		assertEquals(0, gauge("dochnet.client.concurrency.inflight"));
+	}
+
+	@Test
+	void droppedCallsDecreaseTheLimitDownToTheMinimum() {
+		final AdaptiveConcurrencyLimiter limiter = limiter(20, 0.2);
+
+		limiter.acquire().onResponse(503);
+
+		assertEquals(20 * 0.8 + 20 * 0.9 * 0.2, gauge("dochnet.client.concurrency.limit"), 1e-9);
+
+		for (int i = 0; i < 500; i++) {
+			limiter.acquire().onDropped();
+		}
+
+		assertEquals(1, gauge("dochnet.client.concurrency.limit"));
+	}
+
+	@Test
+	void usedLimitGrowsWithSteadyRoundTripTimes() {
+		final AdaptiveConcurrencyLimiter limiter = limiter(4, 1.0);
+		final List<Permit> permits = acquire(limiter, 4);
+
+		/* The first sample is the baseline itself, i.e. no queuing: the limit grows by its square root */
+		permits.get(3).onSuccess();
+
+		assertEquals(6, gauge("dochnet.client.concurrency.limit"), 1e-9);
+	}
+
+	@Test
+	void usedLimitShrinksWithGrowingRoundTripTimes() throws InterruptedException {
+		final AdaptiveConcurrencyLimiter limiter = limiter(16, 1.0);
+		final List<Permit> permits = acquire(limiter, 16);
+
+		permits.get(15).onSuccess();
+
+		final double grownLimit = gauge("dochnet.client.concurrency.limit");
+
+		Thread.sleep(50);
+		permits.get(14).onSuccess();
+
+		/* The sample RTT is far above the baseline: the gradient is at its minimum of 0.5 */
+		assertEquals(grownLimit * 0.5 + Math.sqrt(grownLimit), gauge("dochnet.client.concurrency.limit"), 1e-9);
+	}
+
+	@Test
+	void unusedLimitStaysUnchanged() {
+		final AdaptiveConcurrencyLimiter limiter = limiter(20, 1.0);
+
+		limiter.acquire().onSuccess();
+
+		assertEquals(20, gauge("dochnet.client.concurrency.limit"));
+	}
+
+	private AdaptiveConcurrencyLimiter limiter(final int initialLimit, final double smoothing) {
+		return new AdaptiveConcurrencyLimiter(initialLimit, 1, 200, smoothing, Duration.ofMillis(10), registry);
+	}
+
+	private double gauge(final String name) {
+		return registry.get(name).gauge().value();
+	}
+
+	private static List<Permit> acquire(final AdaptiveConcurrencyLimiter limiter, final int count) {
+		final List<Permit> permits = new ArrayList<>();
+
+		for (int i = 0; i < count; i++) {
+			permits.add(limiter.acquire());
+		}
+
+		return permits;
+	}
+}
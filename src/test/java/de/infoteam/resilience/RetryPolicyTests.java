@@ -0,0 +1,101 @@
+package de.infoteam.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+
+import org.apache.http.NoHttpResponseException;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.HttpHostConnectException;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for the {@link RetryPolicy}: the retryable methods and failures, the jittered backoff and the retry
+ * budget.
+ * 
+ * @author Dirk Weissmann
+ * @since 2026-10-18
+ * @version 1.1
+ *
+ */
+class RetryPolicyTests {
+
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+
+	@Test
+	void onlyIdempotentMethodsAreRetryable() {
+		final RetryPolicy policy = policy(3, 10);
+
+		assertTrue(policy.isRetryable("GET"));
+		assertTrue(policy.isRetryable("PUT"));
+		assertFalse(policy.isRetryable("POST"));
+		assertFalse(policy.isRetryable("PATCH"));
+	}
+
+	@Test
+	void onlyConnectFailuresAreRetryable() {
+		assertTrue(RetryPolicy.isConnectFailure(new HttpHostConnectException(new ConnectException(), null)));
+		assertTrue(RetryPolicy.isConnectFailure(new ConnectTimeoutException()));
+		assertTrue(RetryPolicy.isConnectFailure(new io.netty.channel.ConnectTimeoutException()));
+		assertTrue(RetryPolicy.isConnectFailure(new NoHttpResponseException("closed")));
+		assertFalse(RetryPolicy.isConnectFailure(new SocketTimeoutException("Read timed out")));
+		assertFalse(RetryPolicy.isConnectFailure(new SocketException("Connection reset")));
+		assertFalse(RetryPolicy.isConnectFailure(null));
+	}
+
+	@Test
+	void backoffIsJitteredBelowTheExponentialCap() {
+		final RetryPolicy policy = new RetryPolicy(100, Duration.ofMillis(50), Duration.ofMillis(300), 0.1, 1_000,
+				registry);
+
+		for (int i = 0; i < 200; i++) {
+			assertTrue(policy.nextBackoff(1).orElseThrow().toMillis() <= 50);
+			assertTrue(policy.nextBackoff(2).orElseThrow().toMillis() <= 100);
+			assertTrue(policy.nextBackoff(5).orElseThrow().toMillis() <= 300);
+		}
+	}
+
+	@Test
+	void retriesStopAtTheMaximumAttempts() {
+		final RetryPolicy policy = policy(3, 10);
+
+		assertTrue(policy.nextBackoff(2).isPresent());
+		assertTrue(policy.nextBackoff(3).isEmpty());
+		assertEquals(1, registry.get("dochnet.client.retry.denied").tag("reason", "attempts").counter().count());
+	}
+
+	@Test
+	void budgetIsUsedUpAndRefilledBySuccessfulCalls() {
+		final RetryPolicy policy = policy(3, 2);
+
+		assertTrue(policy.nextBackoff(1).isPresent());
+		assertTrue(policy.nextBackoff(1).isPresent());
+		assertTrue(policy.nextBackoff(1).isEmpty());
+		assertEquals(1, registry.get("dochnet.client.retry.denied").tag("reason", "budget").counter().count());
+		assertEquals(1, registry.get("dochnet.client.retry.budget.used").gauge().value());
+
+		/* Error responses do not refill the budget, 10 successful calls with a ratio of 0.1 earn one retry */
+		for (int i = 0; i < 10; i++) {
+			policy.onResponse(503);
+			policy.onResponse(429);
+			policy.onResponse(404);
+			policy.onResponse(200);
+		}
+
+		assertTrue(policy.nextBackoff(1).isPresent());
+		assertTrue(policy.nextBackoff(1).isEmpty());
+		assertEquals(3, registry.get("dochnet.client.retry.attempts").counter().count());
+	}
+
+	private RetryPolicy policy(final int maxAttempts, final double maxTokens) {
+		return new RetryPolicy(maxAttempts, Duration.ofMillis(50), Duration.ofSeconds(1), 0.1, maxTokens, registry);
+	}
+}